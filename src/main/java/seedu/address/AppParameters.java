@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -9,15 +10,22 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    /** The batch source standing for the standard input. */
+    public static final String BATCH_SOURCE_STDIN = "-";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private String batchSource;
+    private int batchSaveInterval;
+    private Path importFile;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +35,71 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the file to run commands from headless, {@link #BATCH_SOURCE_STDIN} to run them from the standard
+     * input, or null if none is given.
+     */
+    public String getBatchSource() {
+        return batchSource;
+    }
+
+    public void setBatchSource(String batchSource) {
+        this.batchSource = batchSource;
+    }
+
+    /**
+     * Returns the number of commands after which a batch saves the address book, or 0 if it only saves at the end.
+     */
+    public int getBatchSaveInterval() {
+        return batchSaveInterval;
+    }
+
+    public void setBatchSaveInterval(int batchSaveInterval) {
+        this.batchSaveInterval = batchSaveInterval;
+    }
+
+    /**
+     * Returns the CSV file to import headless, or null if none is given.
+     */
+    public Path getImportFile() {
+        return importFile;
+    }
+
+    public void setImportFile(Path importFile) {
+        this.importFile = importFile;
+    }
+
+    /**
+     * Returns true if the application should run headless, rather than start the GUI.
+     */
+    public boolean isHeadless() {
+        return batchSource != null || importFile != null;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments, where each named parameter is given as {@code --name=value} as for
+     * {@link Application.Parameters#getNamed()}.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && separatorIndex > 2) {
+                namedParameters.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,6 +108,28 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String batchParameter = namedParameters.get("batch");
+        if (batchParameter != null && !batchParameter.equals(BATCH_SOURCE_STDIN)
+                && !FileUtil.isValidPath(batchParameter)) {
+            logger.warning("Invalid batch file path " + batchParameter + ". Starting the GUI instead.");
+            batchParameter = null;
+        }
+        appParameters.setBatchSource(batchParameter);
+
+        String saveEveryParameter = namedParameters.get("save-every");
+        if (saveEveryParameter != null && !StringUtil.isNonZeroUnsignedInteger(saveEveryParameter)) {
+            logger.warning("Invalid save interval " + saveEveryParameter + ". Saving at the end of the batch only.");
+            saveEveryParameter = null;
+        }
+        appParameters.setBatchSaveInterval(saveEveryParameter != null ? Integer.parseInt(saveEveryParameter) : 0);
+
+        String importParameter = namedParameters.get("import");
+        if (importParameter != null && !FileUtil.isValidPath(importParameter)) {
+            logger.warning("Invalid import file path " + importParameter + ". Starting the GUI instead.");
+            importParameter = null;
+        }
+        appParameters.setImportFile(importParameter != null ? Paths.get(importParameter) : null);
+
         return appParameters;
     }
 
@@ -56,18 +145,24 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(batchSource, otherAppParameters.batchSource)
+                && batchSaveInterval == otherAppParameters.batchSaveInterval
+                && Objects.equals(importFile, otherAppParameters.importFile);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchSource, batchSaveInterval, importFile);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("batchSource", batchSource)
+                .add("batchSaveInterval", batchSaveInterval)
+                .add("importFile", importFile)
                 .toString();
     }
 }
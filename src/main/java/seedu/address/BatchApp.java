@@ -0,0 +1,70 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchRunner;
+import seedu.address.logic.commands.ImportCommand;
+
+/**
+ * Runs the application headless, executing the commands of a batch file or of the standard input against the address
+ * book without starting the JavaFX toolkit.
+ *
+ * Given an import file, the batch is the single command that imports it, and any batch file is ignored.
+ *
+ * @see BatchRunner
+ */
+public class BatchApp {
+
+    /** The exit status when every command was executed successfully. */
+    public static final int EXIT_SUCCESS = 0;
+    /** The exit status when some commands failed. */
+    public static final int EXIT_COMMAND_FAILED = 1;
+    /** The exit status when the batch could not be read, or the address book could not be saved. */
+    public static final int EXIT_IO_ERROR = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(BatchApp.class);
+
+    /**
+     * Loads the address book as the GUI would, runs the batch given by {@code appParameters} against it and returns
+     * the exit status.
+     */
+    public static int run(AppParameters appParameters) {
+        logger.info("=============================[ Running AddressBook batch ]===========================");
+        MainApp app = new MainApp();
+        app.initModel(appParameters);
+
+        BatchRunner batchRunner = new BatchRunner(app.model, app.storage, appParameters.getBatchSaveInterval(),
+                System.out);
+        try (BufferedReader script = openBatch(appParameters)) {
+            BatchRunner.Summary summary = batchRunner.run(script);
+            return summary.getFailureCount() == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+        } catch (IOException e) {
+            logger.severe("Batch failed " + StringUtil.getDetails(e));
+            System.err.println("Batch failed: " + e.getMessage());
+            return EXIT_IO_ERROR;
+        }
+    }
+
+    private static BufferedReader openBatch(AppParameters appParameters) throws IOException {
+        if (appParameters.getImportFile() != null) {
+            return new BufferedReader(new StringReader(ImportCommand.COMMAND_WORD + " "
+                    + appParameters.getImportFile()));
+        }
+
+        String batchSource = appParameters.getBatchSource();
+        if (batchSource.equals(AppParameters.BATCH_SOURCE_STDIN)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(Paths.get(batchSource), StandardCharsets.UTF_8);
+    }
+
+}
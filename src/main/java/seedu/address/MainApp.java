@@ -1,7 +1,9 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -9,10 +11,14 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.InternPool;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandRunner;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
@@ -23,11 +29,14 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindSaver;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -42,7 +51,9 @@ public class MainApp extends Application {
 
     protected Ui ui;
     protected Logic logic;
+    protected CommandRunner commandRunner;
     protected Storage storage;
+    protected WriteBehindSaver saver;
     protected Model model;
     protected Config config;
 
@@ -51,20 +62,95 @@ public class MainApp extends Application {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        initModel(AppParameters.parse(getParameters()));
+
+        saver = new WriteBehindSaver(storage);
+        if (!FileUtil.isFileExists(storage.getAddressBookFilePath())) {
+            saver.requestSave(model.getAddressBook());
+        }
+        logic = new LogicManager(model, saver);
+        commandRunner = new CommandRunner(logic);
+
+        ui = new UiManager(logic, commandRunner);
+    }
+
+    /**
+     * Initializes the config, logging, storage and model from {@code appParameters}, without the JavaFX toolkit.
+     */
+    void initModel(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
+        logger.info("Interned values of the loaded data:\n" + InternPool.getReports());
+    }
+
+    /**
+     * Returns an {@code AddressBookStorage} for the data file in {@code userPrefs}, in the format it specifies.
+     * When switching between the json and binary formats, the data file of the format in use is recreated from the
+     * data file of the other format if that was modified more recently, i.e. the other format was used last.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(addressBookFilePath);
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryFilePath);
+
+        Optional<FileTime> jsonModifiedTime;
+        Optional<FileTime> binaryModifiedTime;
+        try {
+            jsonModifiedTime = JournaledAddressBookStorage.getLastModifiedTime(addressBookFilePath);
+            binaryModifiedTime = FileUtil.isFileExists(binaryFilePath)
+                    ? Optional.of(Files.getLastModifiedTime(binaryFilePath))
+                    : Optional.empty();
+        } catch (IOException ioe) {
+            logger.warning("Could not compare the data files " + addressBookFilePath + " and " + binaryFilePath
+                    + ": " + StringUtil.getDetails(ioe));
+            jsonModifiedTime = Optional.empty();
+            binaryModifiedTime = Optional.empty();
+        }
 
-        logic = new LogicManager(model, storage);
+        if (userPrefs.getAddressBookStorageFormat() == StorageFormat.BINARY) {
+            if (isModifiedLater(jsonModifiedTime, binaryModifiedTime)) {
+                logger.info("Importing " + addressBookFilePath + " into binary data file " + binaryFilePath);
+                try {
+                    binaryStorage.importFromJson(addressBookFilePath);
+                } catch (DataLoadingException | IOException e) {
+                    logger.warning("Could not import " + addressBookFilePath + ": " + StringUtil.getDetails(e));
+                }
+            }
+            return binaryStorage;
+        }
 
-        ui = new UiManager(logic);
+        if (isModifiedLater(binaryModifiedTime, jsonModifiedTime)) {
+            logger.info("Exporting binary data file " + binaryFilePath + " to " + addressBookFilePath);
+            try {
+                binaryStorage.exportToJson(addressBookFilePath);
+                // Any journals of the json file predate the exported data, so they must not be replayed over it.
+                JournaledAddressBookStorage.deleteJournals(addressBookFilePath);
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Could not export " + binaryFilePath + ": " + StringUtil.getDetails(e));
+            }
+        }
+        switch (userPrefs.getAddressBookStorageFormat()) {
+        case JOURNALED_JSON:
+            return new JournaledAddressBookStorage(addressBookFilePath);
+        default:
+            return new JsonAddressBookStorage(addressBookFilePath, false, true);
+        }
+    }
+
+    /**
+     * Returns true if the data file last modified at {@code modifiedTime} was modified after the one last modified
+     * at {@code otherModifiedTime}, which is empty if that file does not exist.
+     */
+    private static boolean isModifiedLater(Optional<FileTime> modifiedTime, Optional<FileTime> otherModifiedTime) {
+        return modifiedTime.isPresent()
+                && (otherModifiedTime.isEmpty() || modifiedTime.get().compareTo(otherModifiedTime.get()) > 0);
     }
 
     /**
@@ -177,6 +263,12 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        commandRunner.close();
+        try {
+            saver.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
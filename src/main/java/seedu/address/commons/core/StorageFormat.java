@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * The on-disk formats the address book data file can be stored in.
+ */
+public enum StorageFormat {
+    /** A single JSON document that is rewritten in full on every save. */
+    JSON,
+    /** A JSON snapshot plus an append-only journal of changes, periodically compacted into the snapshot. */
+    JOURNALED_JSON,
+    /** A compact binary file next to the JSON data file, with a checksummed header and a shared tag dictionary. */
+    BINARY
+}
@@ -0,0 +1,151 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the records of a CSV file one at a time, as specified by RFC 4180: fields are separated by commas, and fields
+ * containing commas, double quotes or line breaks are enclosed in double quotes, with double quotes inside them
+ * doubled. Records may end with either {@code \n} or {@code \r\n}.
+ *
+ * A record is limited to {@code maxRecordLength} characters, so that a stray double quote cannot make the reader
+ * take the rest of a large file as a single field.
+ *
+ * A field may hold several values, separated by {@link #VALUE_SEPARATOR}, with separators and backslashes inside a
+ * value escaped by a backslash. Such a field is written by {@link CsvWriter#joinValues(List)} and read by
+ * {@link #splitValues(String)}.
+ */
+public class CsvReader {
+
+    public static final int DEFAULT_MAX_RECORD_LENGTH = 1 << 20;
+
+    public static final char VALUE_SEPARATOR = ';';
+    public static final char VALUE_ESCAPE = '\\';
+
+    public static final String MESSAGE_RECORD_TOO_LONG = "The record starting at line %1$d is longer than %2$d "
+            + "characters; it may have an unterminated quoted field";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private final BufferedReader reader;
+    private final int maxRecordLength;
+    private int lineNumber;
+    private int recordLineNumber;
+
+    /**
+     * Creates a {@code CsvReader} reading from {@code reader}, with records of at most {@code maxRecordLength}
+     * characters.
+     */
+    public CsvReader(BufferedReader reader, int maxRecordLength) {
+        requireNonNull(reader);
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * Creates a {@code CsvReader} reading from {@code reader}, with records of at most
+     * {@link #DEFAULT_MAX_RECORD_LENGTH} characters.
+     */
+    public CsvReader(BufferedReader reader) {
+        this(reader, DEFAULT_MAX_RECORD_LENGTH);
+    }
+
+    /**
+     * Returns the fields of the next record, or null if there are no more records.
+     * A quoted field that is still open at the end of the input ends there.
+     *
+     * @throws IOException if the input could not be read, or the record is longer than the limit.
+     */
+    public List<String> readRecord() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+        recordLineNumber = lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int recordLength = 0;
+        boolean isQuoted = false;
+        while (true) {
+            recordLength += line.length();
+            if (recordLength > maxRecordLength) {
+                throw new IOException(String.format(MESSAGE_RECORD_TOO_LONG, recordLineNumber, maxRecordLength));
+            }
+
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (isQuoted) {
+                    if (c != QUOTE) {
+                        field.append(c);
+                    } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                        field.append(QUOTE);
+                        i++;
+                    } else {
+                        isQuoted = false;
+                    }
+                } else if (c == QUOTE) {
+                    isQuoted = true;
+                } else if (c == SEPARATOR) {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+
+            if (!isQuoted) {
+                break;
+            }
+            line = reader.readLine();
+            if (line == null) {
+                break;
+            }
+            lineNumber++;
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Returns the values of a field written by {@link CsvWriter#joinValues(List)}, or an empty list if the field is
+     * empty. A backslash makes the character after it part of the value; a backslash at the end of the field is kept.
+     */
+    public static List<String> splitValues(String field) {
+        requireNonNull(field);
+        List<String> values = new ArrayList<>();
+        if (field.isEmpty()) {
+            return values;
+        }
+
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == VALUE_ESCAPE && i + 1 < field.length()) {
+                value.append(field.charAt(++i));
+            } else if (c == VALUE_SEPARATOR) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    /**
+     * Returns the line number, starting from 1, at which the record last returned by {@link #readRecord()} starts.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+}
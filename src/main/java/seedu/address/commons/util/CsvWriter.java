@@ -0,0 +1,87 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes records to a CSV file in the format read by {@link CsvReader}. Fields are only quoted if they contain
+ * commas, double quotes or line breaks, and records end with {@code \n}.
+ */
+public class CsvWriter {
+
+    private final Writer writer;
+
+    /**
+     * Creates a {@code CsvWriter} writing to {@code writer}, which should be buffered.
+     */
+    public CsvWriter(Writer writer) {
+        requireNonNull(writer);
+        this.writer = writer;
+    }
+
+    /**
+     * Writes a record with the given fields.
+     */
+    public void writeRecord(List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(fields.get(i));
+        }
+        writer.write('\n');
+    }
+
+    private void writeField(String field) throws IOException {
+        if (!needsQuotes(field)) {
+            writer.write(field);
+            return;
+        }
+
+        writer.write('"');
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    /**
+     * Returns a field holding {@code values}, separated by {@link CsvReader#VALUE_SEPARATOR}, to be split back into
+     * them by {@link CsvReader#splitValues(String)}.
+     */
+    public static String joinValues(List<String> values) {
+        StringBuilder field = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                field.append(CsvReader.VALUE_SEPARATOR);
+            }
+            String value = values.get(i);
+            for (int j = 0; j < value.length(); j++) {
+                char c = value.charAt(j);
+                if (c == CsvReader.VALUE_SEPARATOR || c == CsvReader.VALUE_ESCAPE) {
+                    field.append(CsvReader.VALUE_ESCAPE);
+                }
+                field.append(c);
+            }
+        }
+        return field.toString();
+    }
+
+    private static boolean needsQuotes(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
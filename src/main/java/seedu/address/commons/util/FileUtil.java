@@ -1,10 +1,15 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +17,16 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String PREVIOUS_GENERATION_SUFFIX = ".bak";
+
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +90,92 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, see {@link #writeAtomically(Path, ContentWriter, boolean)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, outputStream -> outputStream.write(bytes), false);
+    }
+
+    /**
+     * Returns the path that {@link #writeAtomically(Path, ContentWriter, boolean)} retains the previous contents of
+     * {@code file} at.
+     */
+    public static Path getPreviousGenerationPath(Path file) {
+        return file.resolveSibling(file.getFileName() + PREVIOUS_GENERATION_SUFFIX);
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to {@code file}, creating missing parent directories.
+     * The content is written to a temporary file next to {@code file} and forced to disk, which is then renamed
+     * over {@code file}. A crash or failure at any point leaves either the old or the new content in {@code file},
+     * never a partially written one. {@code contentWriter} may close the stream it is given.
+     *
+     * @param keepPreviousGeneration whether to retain the content being replaced at
+     *     {@link #getPreviousGenerationPath(Path)}.
+     * @throws IOException if the content could not be written, in which case {@code file} is left untouched.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter, boolean keepPreviousGeneration)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                contentWriter.writeTo(outputStream);
+            }
+            forceToDisk(tempFile);
+
+            if (keepPreviousGeneration && isFileExists(file)) {
+                retainPreviousGeneration(file);
+            }
+            moveAtomically(tempFile, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        forceDirectoryToDisk(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Forces any buffered content of {@code file} to the storage device.
+     */
+    private static void forceToDisk(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the storage device, so that a completed rename survives a crash.
+     * Not every platform allows directories to be opened, in which case this does nothing.
+     */
+    private static void forceDirectoryToDisk(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            // The rename has happened; it is only not guaranteed to be durable yet.
+        }
+    }
+
+    private static void retainPreviousGeneration(Path file) throws IOException {
+        Path previousGeneration = getPreviousGenerationPath(file);
+        Files.deleteIfExists(previousGeneration);
+        try {
+            Files.createLink(previousGeneration, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(file, previousGeneration, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
 }
@@ -0,0 +1,187 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * A pool of canonical instances of an immutable value type, so that equal values share a single instance.
+ *
+ * The pool only holds its instances weakly, so values no longer used anywhere else can still be garbage collected.
+ * Every duplicate replaced by its canonical instance is counted, together with an estimate of the heap it would
+ * otherwise have taken, so the effect of interning can be reported with {@link #getReports()}.
+ * All methods are thread-safe, and threads interning values concurrently, as when a data file is decoded in
+ * parallel, do not block each other.
+ */
+public class InternPool<T> {
+
+    private static final List<InternPool<?>> POOLS = new CopyOnWriteArrayList<>();
+
+    // Shallow sizes, in bytes, on a 64-bit JVM with compressed references.
+    private static final int STRING_SIZE = 24;
+    private static final int ARRAY_HEADER_SIZE = 16;
+    private static final int ALIGNMENT = 8;
+
+    private final String name;
+    private final ToLongFunction<? super T> sizeEstimator;
+    private final ConcurrentMap<WeakKey<T>, WeakKey<T>> canonicalInstances = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> collectedInstances = new ReferenceQueue<>();
+
+    private final LongAdder internCount = new LongAdder();
+    private final LongAdder duplicateCount = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    /**
+     * Creates an empty pool, included in {@link #getReports()} under {@code name}.
+     *
+     * @param sizeEstimator Estimates the heap taken by an instance, including the objects only it refers to.
+     */
+    public InternPool(String name, ToLongFunction<? super T> sizeEstimator) {
+        requireNonNull(name);
+        requireNonNull(sizeEstimator);
+        this.name = name;
+        this.sizeEstimator = sizeEstimator;
+        POOLS.add(this);
+    }
+
+    /**
+     * Returns the canonical instance equal to {@code value}, which becomes the canonical instance if there is none.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        removeCollectedInstances();
+        internCount.increment();
+
+        T canonical = getCanonicalInstance(canonicalInstances.get(new WeakKey<>(value, null)));
+        WeakKey<T> key = null;
+        while (canonical == null) {
+            if (key == null) {
+                key = new WeakKey<>(value, collectedInstances);
+            }
+            WeakKey<T> existingKey = canonicalInstances.putIfAbsent(key, key);
+            if (existingKey == null) {
+                return value;
+            }
+            canonical = getCanonicalInstance(existingKey);
+        }
+
+        duplicateCount.increment();
+        bytesSaved.add(sizeEstimator.applyAsLong(value));
+        return canonical;
+    }
+
+    /**
+     * Returns the instance referred to by {@code key}, or null if there is none. A key whose instance has been
+     * garbage collected is removed, so that another instance can take its place.
+     */
+    private T getCanonicalInstance(WeakKey<T> key) {
+        if (key == null) {
+            return null;
+        }
+        T canonical = key.get();
+        if (canonical == null) {
+            canonicalInstances.remove(key, key);
+        }
+        return canonical;
+    }
+
+    private void removeCollectedInstances() {
+        Reference<? extends T> reference;
+        while ((reference = collectedInstances.poll()) != null) {
+            canonicalInstances.remove(reference, reference);
+        }
+    }
+
+    /**
+     * Returns the number of canonical instances in the pool that have not been garbage collected.
+     */
+    public int size() {
+        removeCollectedInstances();
+        return canonicalInstances.size();
+    }
+
+    /**
+     * Returns the number of values interned so far that were replaced by an equal canonical instance.
+     */
+    public long getDuplicateCount() {
+        return duplicateCount.sum();
+    }
+
+    /**
+     * Returns the estimated number of bytes the duplicates replaced so far would have taken.
+     */
+    public long getBytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    /**
+     * Returns a one-line summary of the values interned so far.
+     */
+    public String getReport() {
+        return String.format("%s: %,d interned, %,d distinct, %,d duplicates replaced, ~%,d KiB saved",
+                name, internCount.sum(), size(), duplicateCount.sum(), bytesSaved.sum() / 1024);
+    }
+
+    /**
+     * Returns the reports of every pool, one per line.
+     */
+    public static String getReports() {
+        return POOLS.stream().map(InternPool::getReport).collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Returns the estimated heap taken by {@code string}, including its character array.
+     */
+    public static long estimateSize(String string) {
+        boolean isLatin1 = string.chars().allMatch(c -> c <= 0xFF);
+        long arraySize = ARRAY_HEADER_SIZE + (long) string.length() * (isLatin1 ? 1 : 2);
+        return STRING_SIZE + align(arraySize);
+    }
+
+    /**
+     * Rounds {@code size} up to the alignment of objects on the heap.
+     */
+    public static long align(long size) {
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    /**
+     * A weak reference to a value that is equal to any other reference to an equal value, so that it can key the
+     * map of canonical instances. Once the value is garbage collected, the reference is only equal to itself.
+     */
+    private static class WeakKey<T> extends WeakReference<T> {
+        private final int hashCode;
+
+        WeakKey(T value, ReferenceQueue<? super T> queue) {
+            super(value, queue);
+            hashCode = value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof WeakKey)) {
+                return false;
+            }
+            T value = get();
+            return value != null && value.equals(((WeakKey<?>) other).get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+}
@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +12,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -92,6 +96,34 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a streaming {@code JsonParser} over the contents of {@code filePath}.
+     * Values read through {@link JsonParser#readValueAs(Class)} are bound with the same settings as
+     * {@link #readJsonFile(Path, Class)}. The caller is responsible for closing the parser.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(Files.newInputStream(filePath));
+    }
+
+    /**
+     * Returns a streaming UTF-8 {@code JsonGenerator} that writes to {@code filePath}, overwriting the file if it
+     * exists. The generator buffers its output internally. The caller is responsible for closing the generator.
+     */
+    public static JsonGenerator createGenerator(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return createGenerator(Files.newOutputStream(filePath));
+    }
+
+    /**
+     * Returns a streaming UTF-8 {@code JsonGenerator} that writes to {@code outputStream}.
+     * Closing the generator closes {@code outputStream}.
+     */
+    public static JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+        requireNonNull(outputStream);
+        return objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -5,13 +5,18 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.Normalizer;
 import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -38,6 +43,47 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code s} folded for case and accent insensitive matching.
+     *   Characters are case folded, compatibility characters such as ligatures are decomposed, and accents and other
+     *   combining marks are stripped. {@code s} itself is returned if it is already folded, e.g. if it is lowercase
+     *   ASCII.
+     *   <br>examples:<pre>
+     *       toSearchKey("Zo\u00eb") == "zoe"
+     *       toSearchKey("Stra\u00dfe") == "strasse"
+     *       </pre>
+     * @param s cannot be null
+     */
+    public static String toSearchKey(String s) {
+        requireNonNull(s);
+        if (isLowerCaseAscii(s)) {
+            return s;
+        }
+
+        // lowercasing the uppercase form also folds characters such as the sharp s that only expand when uppercased
+        String caseFolded = s.toLowerCase(Locale.ROOT).toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+        String decomposed = Normalizer.normalize(caseFolded, Normalizer.Form.NFKD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("");
+    }
+
+    private static boolean isLowerCaseAscii(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 0x80 || (c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, the characters matched by {@code \p{Alnum}} in a regular
+     * expression.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,174 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.recruit.Recruit;
+import seedu.address.storage.Storage;
+
+/**
+ * Executes a script of commands, one per line, against a {@code Model} without a UI.
+ *
+ * Unlike {@link LogicManager}, which saves the address book after every command that modifies it, the address book is
+ * only saved every {@code saveInterval} commands, if they modified it, and once more at the end of the script. Blank
+ * lines and lines starting with {@link #COMMENT_PREFIX} are skipped. A failed command is reported with its line
+ * number and does not stop the script; the {@code exit} command does.
+ */
+public class BatchRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s";
+
+    public static final String MESSAGE_SUMMARY =
+            "Executed %1$d commands (%2$d failed) in %3$.3f s, %4$.1f commands/s; saved the address book %5$d times";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final int saveInterval;
+    private final PrintStream out;
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+    private boolean hasUnsavedChanges;
+
+    /**
+     * Creates a {@code BatchRunner} that executes commands against {@code model}, saves it to {@code storage} and
+     * prints the result of each command to {@code out}.
+     *
+     * @param saveInterval The number of commands after which the address book is saved, or 0 to only save it at
+     *     the end of the script.
+     */
+    public BatchRunner(Model model, Storage storage, int saveInterval, PrintStream out) {
+        requireAllNonNull(model, storage, out);
+        this.model = model;
+        this.storage = storage;
+        this.saveInterval = saveInterval;
+        this.out = out;
+        model.getAddressBook().getRecruitList().addListener((ListChangeListener<Recruit>) change ->
+                hasUnsavedChanges = true);
+    }
+
+    /**
+     * Executes the commands read from {@code script}, then saves the address book and the user prefs, and prints how
+     * many commands were executed per second.
+     *
+     * @throws IOException if the script could not be read, or the address book or user prefs could not be saved.
+     */
+    public Summary run(BufferedReader script) throws IOException {
+        long startTime = System.nanoTime();
+        int commandCount = 0;
+        int failureCount = 0;
+        int saveCount = 0;
+        int commandsSinceSave = 0;
+
+        int lineNumber = 0;
+        String line;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            commandCount++;
+            try {
+                Command command = addressBookParser.parseCommand(commandText);
+                CommandResult commandResult = command.execute(model);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failureCount++;
+                out.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+            } catch (RuntimeException e) {
+                // A bug in one command must not lose the changes made by the commands before it.
+                failureCount++;
+                logger.warning("Line " + lineNumber + " failed: " + commandText + "\n" + StringUtil.getDetails(e));
+                out.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e));
+            }
+
+            commandsSinceSave++;
+            if (commandsSinceSave == saveInterval) {
+                commandsSinceSave = 0;
+                saveCount += saveIfChanged();
+            }
+        }
+        saveCount += saveIfChanged();
+        storage.saveUserPrefs(model.getUserPrefs());
+
+        Summary summary = new Summary(commandCount, failureCount, saveCount, System.nanoTime() - startTime);
+        out.println(summary.getMessage());
+        logger.info(summary.getMessage());
+        return summary;
+    }
+
+    /**
+     * Saves the address book if it has changed since it was last saved, and returns the number of saves made.
+     */
+    private int saveIfChanged() throws IOException {
+        if (!hasUnsavedChanges) {
+            return 0;
+        }
+        hasUnsavedChanges = false;
+        storage.saveAddressBook(model.getAddressBook());
+        return 1;
+    }
+
+    /**
+     * The outcome of running a script.
+     */
+    public static class Summary {
+
+        private final int commandCount;
+        private final int failureCount;
+        private final int saveCount;
+        private final long elapsedNanos;
+
+        private Summary(int commandCount, int failureCount, int saveCount, long elapsedNanos) {
+            this.commandCount = commandCount;
+            this.failureCount = failureCount;
+            this.saveCount = saveCount;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getCommandCount() {
+            return commandCount;
+        }
+
+        public int getFailureCount() {
+            return failureCount;
+        }
+
+        public int getSaveCount() {
+            return saveCount;
+        }
+
+        /**
+         * Returns the number of commands executed per second, including the time taken to save.
+         */
+        public double getCommandsPerSecond() {
+            return elapsedNanos == 0 ? 0 : commandCount * 1e9 / elapsedNanos;
+        }
+
+        public String getMessage() {
+            return String.format(MESSAGE_SUMMARY, commandCount, failureCount, elapsedNanos / 1e9,
+                    getCommandsPerSecond(), saveCount);
+        }
+    }
+
+}
@@ -0,0 +1,324 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.recruit.Recruit;
+
+/**
+ * Runs commands through a {@link Logic} on a background thread, one at a time in the order they are submitted, so that
+ * the thread submitting them is not held up by parsing, filtering, sorting or saving. The outcome of each command is
+ * handed back on a result executor, e.g. the JavaFX application thread.
+ *
+ * As the model is modified on the background thread, the UI must not observe the model's lists. It displays
+ * {@link #getDisplayedRecruitList()} instead, a copy of the filtered recruit list that is brought up to date on the
+ * result executor whenever a command has changed the filtered list. The changes to the filtered list are recorded on
+ * the background thread and replayed on the copy, so that e.g. adding a recruit to a long list only adds it to the
+ * copy. The copy is only replaced in full when replaying would take longer, as after a change of filter or order.
+ * For the same reason, the user prefs must only be changed through the runner, see {@link #setGuiSettings}.
+ *
+ * A command is not run if its result is cancelled before it starts. A list query (see {@link Command#isListQuery()})
+ * is also cancelled if it has not started by the time the command submitted after it turns out to be a list query
+ * too, as its effect would be replaced right away.
+ *
+ * Commands are expected to be submitted from the thread that the result executor runs its tasks on.
+ */
+public class CommandRunner {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandRunner.class);
+
+    private final Logic logic;
+    private final Executor worker;
+    private final Executor resultExecutor;
+    private final ObservableList<Recruit> displayedRecruits;
+    private final ObservableList<Recruit> unmodifiableDisplayedRecruits;
+
+    // Guarded by this runner's monitor.
+    private final Deque<PendingCommand> pendingCommands = new ArrayDeque<>();
+
+    // Only accessed on the worker.
+    private List<ListEdit> unreplayedEdits = new ArrayList<>();
+    private int unreplayedAddedCount;
+    private boolean isDisplayedListStale;
+
+    // Only accessed on the result executor.
+    private int unfinishedCommandCount;
+    private Consumer<Boolean> busyListener = isBusy -> {};
+
+    /**
+     * Creates a {@code CommandRunner} that runs commands on a dedicated daemon thread and hands back their outcomes
+     * on the JavaFX application thread.
+     */
+    public CommandRunner(Logic logic) {
+        this(logic, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-runner");
+            thread.setDaemon(true);
+            return thread;
+        }), Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code CommandRunner} that runs commands using {@code worker} and hands back their outcomes using
+     * {@code resultExecutor}. {@code worker} must not run two tasks concurrently.
+     */
+    public CommandRunner(Logic logic, Executor worker, Executor resultExecutor) {
+        requireAllNonNull(logic, worker, resultExecutor);
+        this.logic = logic;
+        this.worker = worker;
+        this.resultExecutor = resultExecutor;
+        displayedRecruits = FXCollections.observableArrayList(logic.getFilteredRecruitList());
+        unmodifiableDisplayedRecruits = FXCollections.unmodifiableObservableList(displayedRecruits);
+        logic.getFilteredRecruitList().addListener((ListChangeListener<Recruit>) this::recordChange);
+    }
+
+    /**
+     * Returns an unmodifiable copy of the filtered recruit list, which only changes on the result executor.
+     */
+    public ObservableList<Recruit> getDisplayedRecruitList() {
+        return unmodifiableDisplayedRecruits;
+    }
+
+    /**
+     * Sets the listener told on the result executor when the runner starts having unfinished commands, with
+     * {@code true}, and when it has finished them all, with {@code false}.
+     */
+    public void setBusyListener(Consumer<Boolean> busyListener) {
+        requireNonNull(busyListener);
+        this.busyListener = busyListener;
+    }
+
+    /**
+     * Submits a command to be run after every command submitted before it.
+     *
+     * @param commandText The command as entered by the user.
+     * @return the result of the command, completed on the result executor, or completed exceptionally with the
+     *     {@link CommandException} or {@link ParseException} it failed with.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        PendingCommand pendingCommand = new PendingCommand(commandText);
+        synchronized (this) {
+            pendingCommands.add(pendingCommand);
+        }
+        if (unfinishedCommandCount++ == 0) {
+            busyListener.accept(true);
+        }
+        worker.execute(this::runNextCommand);
+        return pendingCommand.result;
+    }
+
+    /**
+     * Sets the GUI settings in the user prefs after every command submitted before, on the background thread, where
+     * the commands modify the user prefs too.
+     */
+    public void setGuiSettings(GuiSettings guiSettings) {
+        requireNonNull(guiSettings);
+        worker.execute(() -> logic.setGuiSettings(guiSettings));
+    }
+
+    /**
+     * Waits for every submitted command to be run, then stops the background thread if this runner created it.
+     * Outcomes handed back after the result executor has stopped are lost.
+     */
+    public void close() {
+        if (!(worker instanceof ExecutorService)) {
+            return;
+        }
+
+        ExecutorService workerService = (ExecutorService) worker;
+        workerService.shutdown();
+        try {
+            workerService.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runNextCommand() {
+        PendingCommand next;
+        PendingCommand following;
+        synchronized (this) {
+            next = pendingCommands.poll();
+            following = pendingCommands.peek();
+        }
+
+        Runnable outcome = run(next, following);
+        Runnable displayedListUpdate = takeDisplayedListUpdate();
+
+        resultExecutor.execute(() -> {
+            displayedListUpdate.run();
+            outcome.run();
+            if (--unfinishedCommandCount == 0) {
+                busyListener.accept(false);
+            }
+        });
+    }
+
+    /**
+     * Records the sub-changes of {@code change} to the filtered recruit list, to be replayed on the displayed list.
+     * Once the recorded changes add as many recruits as a copy of the filtered list would have, or the filtered list
+     * is permuted, the displayed list is marked to be replaced by a copy instead.
+     */
+    private void recordChange(ListChangeListener.Change<? extends Recruit> change) {
+        while (!isDisplayedListStale && change.next()) {
+            if (change.wasPermutated()) {
+                markDisplayedListStale();
+                return;
+            }
+
+            int from = change.getFrom();
+            List<Recruit> added = change.wasUpdated()
+                    ? List.copyOf(change.getList().subList(from, change.getTo()))
+                    : List.copyOf(change.getAddedSubList());
+            unreplayedAddedCount += added.size();
+            if (unreplayedAddedCount >= change.getList().size()) {
+                markDisplayedListStale();
+                return;
+            }
+            int removedSize = change.wasUpdated() ? added.size() : change.getRemovedSize();
+            unreplayedEdits.add(new ListEdit(from, removedSize, added));
+        }
+    }
+
+    private void markDisplayedListStale() {
+        isDisplayedListStale = true;
+        unreplayedEdits.clear();
+        unreplayedAddedCount = 0;
+    }
+
+    /**
+     * Returns the action bringing the displayed list up to date with the filtered recruit list on the result
+     * executor, and starts recording the changes after it afresh.
+     */
+    private Runnable takeDisplayedListUpdate() {
+        if (isDisplayedListStale) {
+            List<Recruit> displayedRecruitsSnapshot = List.copyOf(logic.getFilteredRecruitList());
+            isDisplayedListStale = false;
+            return () -> displayedRecruits.setAll(displayedRecruitsSnapshot);
+        }
+        if (unreplayedEdits.isEmpty()) {
+            return () -> {};
+        }
+
+        List<ListEdit> edits = unreplayedEdits;
+        unreplayedEdits = new ArrayList<>();
+        unreplayedAddedCount = 0;
+        return () -> edits.forEach(edit -> edit.applyTo(displayedRecruits));
+    }
+
+    /**
+     * Runs {@code next} unless it is cancelled or superseded by {@code following}, and returns the action handing back
+     * its outcome.
+     */
+    private Runnable run(PendingCommand next, PendingCommand following) {
+        if (next.result.isDone()) {
+            return () -> {};
+        }
+
+        try {
+            Command command = next.parse(logic);
+            if (command.isListQuery() && following != null && following.isListQuery(logic)) {
+                logger.info("Skipping list query superseded by the next command: " + next.commandText);
+                return () -> next.result.cancel(false);
+            }
+
+            CommandResult commandResult = logic.execute(command);
+            return () -> next.result.complete(commandResult);
+        } catch (CommandException | ParseException | RuntimeException e) {
+            return () -> next.result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * A sub-change to the filtered recruit list: {@code removedSize} recruits replaced by {@code added} from
+     * {@code from} on. Applying the sub-changes of a change in order turns a copy of the list before the change into
+     * a copy of the list after it.
+     */
+    private static class ListEdit {
+
+        private final int from;
+        private final int removedSize;
+        private final List<Recruit> added;
+
+        private ListEdit(int from, int removedSize, List<Recruit> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+
+        private void applyTo(ObservableList<Recruit> list) {
+            if (removedSize == 1 && added.size() == 1) {
+                list.set(from, added.get(0));
+                return;
+            }
+            if (removedSize > 0) {
+                list.remove(from, from + removedSize);
+            }
+            if (!added.isEmpty()) {
+                list.addAll(from, added);
+            }
+        }
+    }
+
+    /**
+     * A submitted command, parsed on the worker when first needed.
+     */
+    private static class PendingCommand {
+
+        private final String commandText;
+        private final CompletableFuture<CommandResult> result = new CompletableFuture<>();
+
+        // Only accessed on the worker.
+        private Command command;
+        private ParseException parseFailure;
+
+        private PendingCommand(String commandText) {
+            this.commandText = commandText;
+        }
+
+        private Command parse(Logic logic) throws ParseException {
+            if (command == null && parseFailure == null) {
+                try {
+                    command = logic.parseCommand(commandText);
+                } catch (ParseException e) {
+                    parseFailure = e;
+                }
+            }
+            if (parseFailure != null) {
+                throw parseFailure;
+            }
+            return command;
+        }
+
+        private boolean isListQuery(Logic logic) {
+            try {
+                return parse(logic).isListQuery();
+            } catch (ParseException e) {
+                return false;
+            }
+        }
+    }
+
+}
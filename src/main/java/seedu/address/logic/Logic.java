@@ -1,9 +1,12 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -23,6 +26,27 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Parses the command without executing it.
+     * @param commandText The command as entered by the user.
+     * @return the command, to be executed with {@link #execute(Command)}.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    Command parseCommand(String commandText) throws ParseException;
+
+    /**
+     * Executes a command returned by {@link #parseCommand(String)} and returns the result.
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult execute(Command command) throws CommandException;
+
+    /**
+     * Sets the listener told whether the address book is being saved: it is called with a message describing the
+     * error whenever a save fails, and with an empty {@code Optional} once a later save succeeds.
+     * The listener may be called on any thread.
+     */
+    void setSaveStatusListener(Consumer<Optional<String>> saveStatusListener);
+
     /**
      * Returns the AddressBook.
      *
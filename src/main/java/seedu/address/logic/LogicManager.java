@@ -1,10 +1,15 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -17,6 +22,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.recruit.Recruit;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
@@ -30,37 +36,83 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final WriteBehindSaver saver;
+    private final boolean isSavedByCommand;
     private final AddressBookParser addressBookParser;
+    private boolean hasUnsavedChanges;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved synchronously after every command that modifies it.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new WriteBehindSaver(storage, Runnable::run), true);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} that saves the address book through
+     * {@code saver} after every command that modifies it.
+     * Failed saves are reported to the save status listener rather than by the commands that follow them.
+     */
+    public LogicManager(Model model, WriteBehindSaver saver) {
+        this(model, saver, false);
+    }
+
+    private LogicManager(Model model, WriteBehindSaver saver, boolean isSavedByCommand) {
         this.model = model;
-        this.storage = storage;
+        this.saver = saver;
+        this.isSavedByCommand = isSavedByCommand;
         addressBookParser = new AddressBookParser();
+        model.getAddressBook().getRecruitList().addListener((ListChangeListener<Recruit>) change ->
+                hasUnsavedChanges = true);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        return execute(parseCommand(commandText));
+    }
+
+    @Override
+    public Command parseCommand(String commandText) throws ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        return addressBookParser.parseCommand(commandText);
+    }
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+    @Override
+    public CommandResult execute(Command command) throws CommandException {
+        CommandResult commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        if (hasUnsavedChanges) {
+            hasUnsavedChanges = false;
+            saver.requestSave(model.getAddressBook());
+        }
+        if (isSavedByCommand) {
+            try {
+                saver.throwIfSaveFailed();
+            } catch (IOException ioe) {
+                throw new CommandException(getSaveFailureMessage(ioe), ioe);
+            }
         }
 
         return commandResult;
     }
 
+    /**
+     * Returns the message shown to the user when the address book could not be saved because of {@code ioe}.
+     */
+    public static String getSaveFailureMessage(IOException ioe) {
+        return ioe instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    @Override
+    public void setSaveStatusListener(Consumer<Optional<String>> saveStatusListener) {
+        requireNonNull(saveStatusListener);
+        saver.setSaveStatusListener(failure -> saveStatusListener.accept(
+                failure.map(LogicManager::getSaveFailureMessage)));
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -0,0 +1,423 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvReader;
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.recruit.Address;
+import seedu.address.model.recruit.Email;
+import seedu.address.model.recruit.Name;
+import seedu.address.model.recruit.Phone;
+import seedu.address.model.recruit.Recruit;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads recruits from a CSV file, for them to be added to the address book in a single batch.
+ *
+ * The first record of the file is a header naming its columns, in any order and case: {@link #COLUMN_NAME},
+ * {@link #COLUMN_PHONE}, {@link #COLUMN_EMAIL} and {@link #COLUMN_ADDRESS} are required, and {@link #COLUMN_ID} and
+ * {@link #COLUMN_TAGS} are optional. Other columns are ignored. A field may hold several names, phones, emails,
+ * addresses or tags, separated by {@link #VALUE_SEPARATOR} as read by {@link CsvReader#splitValues(String)}; the
+ * first of each is the primary one, and the others are its aliases.
+ * A byte order mark before the header, as written by spreadsheet programs saving UTF-8 CSV files, is skipped.
+ *
+ * The file is read in chunks of {@code chunkSize} records, and each chunk is validated on the {@code executor} with
+ * the same checks as the {@code add} command, while the next chunks are read. At most one chunk more than the
+ * parallelism of the executor is in flight at a time, so the raw records held in memory stay bounded however large
+ * the file is. Invalid rows, and rows with the id of a recruit in the address book or of an earlier row, are written
+ * to a reject file next to the CSV file as they are found, with their line number and the reason they were rejected.
+ */
+public class RecruitCsvImporter {
+
+    public static final String COLUMN_ID = "id";
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_ADDRESS = "address";
+    public static final String COLUMN_TAGS = "tags";
+
+    public static final String VALUE_SEPARATOR = String.valueOf(CsvReader.VALUE_SEPARATOR);
+
+    public static final String REJECT_COLUMN_LINE = "line";
+    public static final String REJECT_COLUMN_ERROR = "error";
+    public static final String REJECT_FILE_SUFFIX = ".rejects.csv";
+
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    public static final String MESSAGE_EMPTY_FILE = "The CSV file is empty; it should start with a header row";
+    public static final String MESSAGE_MISSING_COLUMN = "The CSV header has no %1$s column";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "The row has %1$d fields, but the header has %2$d";
+    public static final String MESSAGE_DUPLICATE_ROW =
+            "A recruit with this id is already in the address book or in an earlier row";
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL,
+            COLUMN_ADDRESS);
+
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private static final Logger logger = LogsCenter.getLogger(RecruitCsvImporter.class);
+
+    private final Predicate<Recruit> isExistingRecruit;
+    private final int chunkSize;
+    private final Executor executor;
+    private final int maxChunksInFlight;
+
+    /**
+     * Creates a {@code RecruitCsvImporter} that rejects the recruits for which {@code isExistingRecruit} is true, and
+     * validates chunks of {@code chunkSize} rows on {@code executor}, with at most {@code maxChunksInFlight} chunks
+     * read but not yet collected at a time.
+     */
+    public RecruitCsvImporter(Predicate<Recruit> isExistingRecruit, int chunkSize, Executor executor,
+            int maxChunksInFlight) {
+        requireAllNonNull(isExistingRecruit, executor);
+        assert chunkSize > 0 && maxChunksInFlight > 0;
+        this.isExistingRecruit = isExistingRecruit;
+        this.chunkSize = chunkSize;
+        this.executor = executor;
+        this.maxChunksInFlight = maxChunksInFlight;
+    }
+
+    /**
+     * Creates a {@code RecruitCsvImporter} that rejects the recruits for which {@code isExistingRecruit} is true, and
+     * validates chunks of {@link #DEFAULT_CHUNK_SIZE} rows on the common fork-join pool.
+     */
+    public RecruitCsvImporter(Predicate<Recruit> isExistingRecruit) {
+        this(isExistingRecruit, DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool(),
+                ForkJoinPool.getCommonPoolParallelism() + 1);
+    }
+
+    /**
+     * Returns the reject file for {@code csvFile}.
+     */
+    public static Path getRejectFile(Path csvFile) {
+        return csvFile.resolveSibling(csvFile.getFileName() + REJECT_FILE_SUFFIX);
+    }
+
+    /**
+     * Reads the recruits of {@code csvFile}, in the order of its rows, and writes the rows that were rejected to
+     * its reject file. A reject file left by an earlier import of the same file is deleted if no row is rejected.
+     *
+     * @throws IOException if the file could not be read, or the reject file could not be written.
+     * @throws IllegalValueException if the file has no header, or the header lacks a required column.
+     */
+    public Result importFrom(Path csvFile) throws IOException, IllegalValueException {
+        requireNonNull(csvFile);
+        long startTime = System.nanoTime();
+        Path rejectFile = getRejectFile(csvFile);
+
+        try (BufferedReader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8);
+                RejectWriter rejectWriter = new RejectWriter(rejectFile)) {
+            CsvReader csvReader = new CsvReader(reader);
+            List<String> header = csvReader.readRecord();
+            if (header == null) {
+                throw new IllegalValueException(MESSAGE_EMPTY_FILE);
+            }
+            if (header.get(0).startsWith(BYTE_ORDER_MARK)) {
+                header.set(0, header.get(0).substring(BYTE_ORDER_MARK.length()));
+            }
+            Columns columns = new Columns(header);
+            rejectWriter.setHeader(header);
+
+            Collector collector = new Collector(rejectWriter);
+            Deque<CompletableFuture<List<Row>>> chunksInFlight = new ArrayDeque<>();
+            List<Row> chunk;
+            while (!(chunk = readChunk(csvReader)).isEmpty()) {
+                List<Row> rows = chunk;
+                chunksInFlight.add(CompletableFuture.supplyAsync(() -> parseRows(rows, columns), executor));
+                if (chunksInFlight.size() >= maxChunksInFlight) {
+                    collector.collect(chunksInFlight.remove().join());
+                }
+            }
+            while (!chunksInFlight.isEmpty()) {
+                collector.collect(chunksInFlight.remove().join());
+            }
+
+            if (!rejectWriter.isOpen()) {
+                Files.deleteIfExists(rejectFile);
+            }
+            Result result = new Result(collector.recruits, collector.rowCount, collector.rejectCount,
+                    rejectWriter.isOpen() ? rejectFile : null, System.nanoTime() - startTime);
+            logger.info(String.format("Imported %d of %d rows from %s", result.getRecruits().size(),
+                    result.getRowCount(), csvFile));
+            return result;
+        }
+    }
+
+    private List<Row> readChunk(CsvReader csvReader) throws IOException {
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        List<String> fields;
+        while (chunk.size() < chunkSize && (fields = csvReader.readRecord()) != null) {
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            chunk.add(new Row(csvReader.getRecordLineNumber(), fields));
+        }
+        return chunk;
+    }
+
+    /**
+     * Parses each of {@code rows} into a recruit, or records why it is invalid. Runs on the executor.
+     */
+    private static List<Row> parseRows(List<Row> rows, Columns columns) {
+        for (Row row : rows) {
+            try {
+                row.recruit = parseRecruit(row.fields, columns);
+            } catch (ParseException e) {
+                row.error = e.getMessage();
+            }
+        }
+        return rows;
+    }
+
+    private static Recruit parseRecruit(List<String> fields, Columns columns) throws ParseException {
+        if (fields.size() != columns.count) {
+            throw new ParseException(String.format(MESSAGE_WRONG_FIELD_COUNT, fields.size(), columns.count));
+        }
+
+        List<Name> names = parseValues(fields.get(columns.indexOf(COLUMN_NAME)), ParserUtil::parseName);
+        List<Phone> phones = parseValues(fields.get(columns.indexOf(COLUMN_PHONE)), ParserUtil::parsePhone);
+        List<Email> emails = parseValues(fields.get(columns.indexOf(COLUMN_EMAIL)), ParserUtil::parseEmail);
+        List<Address> addresses = parseValues(fields.get(columns.indexOf(COLUMN_ADDRESS)), ParserUtil::parseAddress);
+
+        Set<Tag> tags = Collections.emptySet();
+        if (columns.has(COLUMN_TAGS)) {
+            List<String> tagNames = new ArrayList<>();
+            for (String tagName : CsvReader.splitValues(fields.get(columns.indexOf(COLUMN_TAGS)))) {
+                if (!tagName.isBlank()) {
+                    tagNames.add(tagName);
+                }
+            }
+            tags = ParserUtil.parseTags(tagNames);
+        }
+
+        String id = columns.has(COLUMN_ID) ? fields.get(columns.indexOf(COLUMN_ID)) : "";
+        if (id.isBlank()) {
+            return new Recruit(names, phones, emails, addresses, tags);
+        }
+        return new Recruit(ParserUtil.parseID(id), names, phones, emails, addresses, tags);
+    }
+
+    /**
+     * Returns the values of {@code field}, each parsed by {@code parser}. An empty field is parsed as a single empty
+     * value, so that {@code parser} rejects it as it would any other invalid value.
+     */
+    private static <T> List<T> parseValues(String field, ValueParser<T> parser) throws ParseException {
+        List<String> texts = CsvReader.splitValues(field);
+        if (texts.isEmpty()) {
+            return List.of(parser.parse(field));
+        }
+        List<T> values = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            values.add(parser.parse(text));
+        }
+        return values;
+    }
+
+    /**
+     * Parses the text of a single value of a field.
+     */
+    @FunctionalInterface
+    private interface ValueParser<T> {
+        T parse(String text) throws ParseException;
+    }
+
+    /**
+     * The positions of the columns named by the header.
+     */
+    private static class Columns {
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final int count;
+
+        Columns(List<String> header) throws IllegalValueException {
+            count = header.size();
+            for (int i = 0; i < header.size(); i++) {
+                indices.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            for (String column : REQUIRED_COLUMNS) {
+                if (!has(column)) {
+                    throw new IllegalValueException(String.format(MESSAGE_MISSING_COLUMN, column));
+                }
+            }
+        }
+
+        boolean has(String column) {
+            return indices.containsKey(column);
+        }
+
+        int indexOf(String column) {
+            return indices.get(column);
+        }
+    }
+
+    /**
+     * A data row of the CSV file. Once parsed, it holds either its recruit, or why it is invalid.
+     */
+    private static class Row {
+        private final int lineNumber;
+        private final List<String> fields;
+        private Recruit recruit;
+        private String error;
+
+        Row(int lineNumber, List<String> fields) {
+            this.lineNumber = lineNumber;
+            this.fields = fields;
+        }
+    }
+
+    /**
+     * Collects the parsed chunks in the order of the file, rejecting the recruits that are duplicates.
+     */
+    private class Collector {
+        private final RejectWriter rejectWriter;
+        private final List<Recruit> recruits = new ArrayList<>();
+        private final Set<UUID> seenIds = new HashSet<>();
+        private int rowCount;
+        private int rejectCount;
+
+        Collector(RejectWriter rejectWriter) {
+            this.rejectWriter = rejectWriter;
+        }
+
+        void collect(List<Row> rows) throws IOException {
+            for (Row row : rows) {
+                rowCount++;
+                if (row.recruit == null) {
+                    reject(row.lineNumber, row.fields, row.error);
+                } else if (!seenIds.add(row.recruit.getID()) || isExistingRecruit.test(row.recruit)) {
+                    reject(row.lineNumber, row.fields, MESSAGE_DUPLICATE_ROW);
+                } else {
+                    recruits.add(row.recruit);
+                }
+            }
+        }
+
+        private void reject(int lineNumber, List<String> fields, String error) throws IOException {
+            rejectCount++;
+            rejectWriter.write(lineNumber, fields, error);
+        }
+    }
+
+    /**
+     * Writes rejected rows to the reject file, which is only created once the first row is rejected.
+     */
+    private static class RejectWriter implements AutoCloseable {
+        private final Path rejectFile;
+        private List<String> header;
+        private BufferedWriter writer;
+        private CsvWriter csvWriter;
+
+        RejectWriter(Path rejectFile) {
+            this.rejectFile = rejectFile;
+        }
+
+        void setHeader(List<String> header) {
+            this.header = header;
+        }
+
+        boolean isOpen() {
+            return writer != null;
+        }
+
+        /**
+         * Writes a rejected row as read, after its line number and the reason it was rejected.
+         */
+        void write(int lineNumber, List<String> fields, String error) throws IOException {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(rejectFile, StandardCharsets.UTF_8);
+                csvWriter = new CsvWriter(writer);
+                List<String> rejectHeader = new ArrayList<>(List.of(REJECT_COLUMN_LINE, REJECT_COLUMN_ERROR));
+                rejectHeader.addAll(header);
+                csvWriter.writeRecord(rejectHeader);
+            }
+
+            List<String> record = new ArrayList<>(List.of(String.valueOf(lineNumber), error));
+            record.addAll(fields);
+            csvWriter.writeRecord(record);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+
+    /**
+     * The outcome of an import.
+     */
+    public static class Result {
+        private final List<Recruit> recruits;
+        private final int rowCount;
+        private final int rejectCount;
+        private final Path rejectFile;
+        private final long elapsedNanos;
+
+        Result(List<Recruit> recruits, int rowCount, int rejectCount, Path rejectFile, long elapsedNanos) {
+            this.recruits = recruits;
+            this.rowCount = rowCount;
+            this.rejectCount = rejectCount;
+            this.rejectFile = rejectFile;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Returns the valid recruits read, in the order of their rows.
+         */
+        public List<Recruit> getRecruits() {
+            return Collections.unmodifiableList(recruits);
+        }
+
+        /**
+         * Returns the number of data rows read, excluding the header and blank lines.
+         */
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        public int getRejectCount() {
+            return rejectCount;
+        }
+
+        /**
+         * Returns the file the rejected rows were written to, if any row was rejected.
+         */
+        public Optional<Path> getRejectFile() {
+            return Optional.ofNullable(rejectFile);
+        }
+
+        public double getRowsPerSecond() {
+            return elapsedNanos == 0 ? 0 : rowCount / (elapsedNanos / 1e9);
+        }
+    }
+
+}
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if this command only changes which recruits are displayed, so that its effect is replaced by that
+     * of any other such command executed right after it.
+     */
+    public boolean isListQuery() {
+        return false;
+    }
+
 }
@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.recruit.Recruit;
+import seedu.address.storage.RecruitExporter;
+import seedu.address.storage.RecruitExporter.Format;
+
+/**
+ * Exports all recruits in the address book, or only the recruits in the filtered list, to a CSV or JSON Lines file.
+ * The recruits are streamed to the file as they are read from the model, on the thread the command is executed on,
+ * which is not the UI thread.
+ *
+ * @see RecruitExporter
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String FILTERED_FLAG = "-f";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports all recruits in the address book to a file, "
+            + "as CSV if its name ends with " + Format.CSV.getExtension() + " or as JSON Lines if it ends with "
+            + Format.JSON_LINES.getExtension() + ". "
+            + "With " + FILTERED_FLAG + ", only the recruits currently listed are exported.\n"
+            + "Parameters: [" + FILTERED_FLAG + "] FILE\n"
+            + "Example: " + COMMAND_WORD + " " + FILTERED_FLAG + " data/shortlist.csv";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d recruits to %2$s (%3$.1f rows/s).";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export to %1$s: %2$s";
+
+    private final Path file;
+    private final Format format;
+    private final boolean isFilteredOnly;
+
+    /**
+     * Creates an ExportCommand to export recruits to {@code file} in {@code format}.
+     *
+     * @param isFilteredOnly whether to only export the recruits in the filtered list.
+     */
+    public ExportCommand(Path file, Format format, boolean isFilteredOnly) {
+        requireAllNonNull(file, format);
+        this.file = file;
+        this.format = format;
+        this.isFilteredOnly = isFilteredOnly;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Iterable<Recruit> recruits = isFilteredOnly
+                ? model.getFilteredRecruitList()
+                : model.getAddressBook().getRecruitList();
+        RecruitExporter.Result result;
+        try {
+            result = RecruitExporter.export(recruits, file, format);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_EXPORT_FAILED, file, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, result.getRowCount(), file,
+                result.getRowsPerSecond()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return file.equals(otherExportCommand.file)
+                && format == otherExportCommand.format
+                && isFilteredOnly == otherExportCommand.isFilteredOnly;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .add("format", format)
+                .add("isFilteredOnly", isFilteredOnly)
+                .toString();
+    }
+}
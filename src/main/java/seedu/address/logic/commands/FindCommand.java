@@ -35,6 +35,11 @@ public class FindCommand extends Command {
                 String.format(Messages.MESSAGE_RECRUITS_LISTED_OVERVIEW, model.getFilteredRecruitList().size()));
     }
 
+    @Override
+    public boolean isListQuery() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.RecruitCsvImporter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Adds the recruits of a CSV file to the address book in a single batch. Rows that are invalid, or whose recruit is
+ * already in the address book, are written to a reject file instead.
+ *
+ * @see RecruitCsvImporter
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the recruits of a CSV file to the address book. "
+            + "The first row of the file names its columns: "
+            + RecruitCsvImporter.COLUMN_NAME + ", "
+            + RecruitCsvImporter.COLUMN_PHONE + ", "
+            + RecruitCsvImporter.COLUMN_EMAIL + ", "
+            + RecruitCsvImporter.COLUMN_ADDRESS + " and optionally "
+            + RecruitCsvImporter.COLUMN_ID + " and "
+            + RecruitCsvImporter.COLUMN_TAGS + ", with several values of a column separated by "
+            + RecruitCsvImporter.VALUE_SEPARATOR + ". "
+            + "Rows that cannot be added are written to FILE" + RecruitCsvImporter.REJECT_FILE_SUFFIX + ".\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/recruits.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d of %2$d recruits (%3$.1f rows/s).";
+    public static final String MESSAGE_REJECTS = "\n%1$d rows were rejected; see %2$s";
+    public static final String MESSAGE_IMPORT_FAILED = "Could not import %1$s: %2$s";
+
+    private final Path csvFile;
+
+    /**
+     * Creates an ImportCommand to add the recruits of {@code csvFile}.
+     */
+    public ImportCommand(Path csvFile) {
+        requireNonNull(csvFile);
+        this.csvFile = csvFile;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        RecruitCsvImporter.Result result;
+        try {
+            result = new RecruitCsvImporter(model::hasRecruit).importFrom(csvFile);
+        } catch (IOException | IllegalValueException e) {
+            throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, csvFile, e.getMessage()), e);
+        }
+
+        model.addRecruits(result.getRecruits());
+        String message = String.format(MESSAGE_SUCCESS, result.getRecruits().size(), result.getRowCount(),
+                result.getRowsPerSecond());
+        if (result.getRejectFile().isPresent()) {
+            message += String.format(MESSAGE_REJECTS, result.getRejectCount(), result.getRejectFile().get());
+        }
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return csvFile.equals(otherImportCommand.csvFile);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("csvFile", csvFile)
+                .toString();
+    }
+}
@@ -21,4 +21,9 @@ public class ListCommand extends Command {
         model.updateFilteredRecruitList(PREDICATE_SHOW_ALL_RECRUITS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean isListQuery() {
+        return true;
+    }
 }
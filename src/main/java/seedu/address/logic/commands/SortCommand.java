@@ -2,24 +2,92 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
+import seedu.address.model.recruit.RecruitSortOrder;
 
 /**
- * Sorts the recruits in the address book by name in alphabetical order.
- * Next iteration: implement logic to sort by parameters other than name, as well as in ascending / descending order.
+ * Sorts the recruits in the address book by one or more fields, each in ascending or descending order, and keeps
+ * them sorted as recruits are added and edited. Can also stop keeping the recruits sorted.
  */
 public class SortCommand extends Command {
     public static final String COMMAND_WORD = "sort";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts all recruits in the address book.\n";
+    public static final String OFF_KEYWORD = "off";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts all recruits in the address book by the "
+            + "specified fields, in order, and keeps them sorted as recruits are added and edited. "
+            + "Recruits equal in a field are sorted by the next field.\n"
+            + "Parameters: [FLAG [asc|desc]]... ( -n for name, -p for phone, -e for email, -a for address "
+            + "& -t for number of tags; ascending unless desc is given; by name if no flag is given )\n"
+            + "Example: " + COMMAND_WORD + " -t desc -n\n"
+            + "Use " + COMMAND_WORD + " " + OFF_KEYWORD + " to stop keeping recruits sorted.";
+
+    public static final String MESSAGE_SUCCESS = "Recruits sorted by %1$s.";
+
+    public static final String MESSAGE_SORT_OFF = "Recruits are no longer kept sorted.";
+
+    private final Optional<RecruitSortOrder> sortOrder;
+
+    /**
+     * Creates a SortCommand that sorts recruits by name from A to Z.
+     */
+    public SortCommand() {
+        this(RecruitSortOrder.BY_NAME);
+    }
+
+    /**
+     * Creates a SortCommand that sorts recruits in {@code sortOrder}.
+     */
+    public SortCommand(RecruitSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        this.sortOrder = Optional.of(sortOrder);
+    }
+
+    private SortCommand(Optional<RecruitSortOrder> sortOrder) {
+        this.sortOrder = sortOrder;
+    }
 
-    public static final String MESSAGE_SUCCESS = "Recruits sorted by name from A to Z.";
+    /**
+     * Creates a SortCommand that stops keeping recruits sorted.
+     */
+    public static SortCommand off() {
+        return new SortCommand(Optional.empty());
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.sortRecruits();
-        return new CommandResult(String.format(MESSAGE_SUCCESS));
+        if (sortOrder.isEmpty()) {
+            model.clearRecruitSortOrder();
+            return new CommandResult(MESSAGE_SORT_OFF);
+        }
+
+        model.sortRecruits(sortOrder.get());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sortOrder.get().getDescription()));
     }
-}
 
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return sortOrder.equals(otherSortCommand.sortOrder);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortOrder", sortOrder)
+                .toString();
+    }
+}
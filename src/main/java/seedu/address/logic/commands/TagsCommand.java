@@ -0,0 +1,45 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Map;
+
+import seedu.address.model.Model;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Lists the tags of the recruits in the displayed list, with the number of recruits having each tag.
+ */
+public class TagsCommand extends Command {
+
+    public static final String COMMAND_WORD = "tags";
+
+    public static final String MESSAGE_SUCCESS = "Tags of the %1$d listed recruits:";
+
+    public static final String MESSAGE_NO_TAGS = "The listed recruits have no tags";
+
+    /**
+     * Formats the count of a tag as a line of the result.
+     */
+    public static String formatTagCount(Tag tag, int count) {
+        return tag.tagName + ": " + count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Map<Tag, Integer> tagCounts = model.getFilteredTagCounts();
+        if (tagCounts.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_TAGS);
+        }
+
+        StringBuilder feedback = new StringBuilder(
+                String.format(MESSAGE_SUCCESS, model.getFilteredRecruitList().size()));
+        tagCounts.entrySet().stream()
+                .sorted(Map.Entry.<Tag, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(entry -> entry.getKey().tagName))
+                .forEach(entry -> feedback.append('\n').append(formatTagCount(entry.getKey(), entry.getValue())));
+        return new CommandResult(feedback.toString());
+    }
+}
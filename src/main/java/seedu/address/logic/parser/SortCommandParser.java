@@ -0,0 +1,72 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.recruit.RecruitSortOrder;
+import seedu.address.model.recruit.RecruitSortOrder.Criterion;
+import seedu.address.model.recruit.RecruitSortOrder.Field;
+
+/**
+ * Parses input arguments and creates a new SortCommand object
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    public static final String ASCENDING = "asc";
+    public static final String DESCENDING = "desc";
+
+    private static final Map<String, Field> FIELDS_BY_FLAG = Map.of(
+            SEARCH_PREFIX_NAME.getPrefix(), Field.NAME,
+            SEARCH_PREFIX_PHONE.getPrefix(), Field.PHONE,
+            SEARCH_PREFIX_EMAIL.getPrefix(), Field.EMAIL,
+            SEARCH_PREFIX_ADDRESS.getPrefix(), Field.ADDRESS,
+            SEARCH_PREFIX_TAG.getPrefix(), Field.TAG_COUNT);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * and returns a SortCommand object for execution.
+     * The order of the flags is the order in which their fields are sorted by.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new SortCommand();
+        }
+        if (trimmedArgs.equals(SortCommand.OFF_KEYWORD)) {
+            return SortCommand.off();
+        }
+
+        String[] words = trimmedArgs.split("\\s+");
+        List<Criterion> criteria = new ArrayList<>();
+        for (int i = 0; i < words.length; i++) {
+            Field field = FIELDS_BY_FLAG.get(words[i]);
+            if (field == null) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+            }
+
+            boolean isDescending = false;
+            if (i + 1 < words.length && (words[i + 1].equals(ASCENDING) || words[i + 1].equals(DESCENDING))) {
+                i++;
+                isDescending = words[i].equals(DESCENDING);
+            }
+            criteria.add(new Criterion(field, isDescending));
+        }
+
+        if (criteria.stream().map(Criterion::getField).distinct().count() != criteria.size()) {
+            throw new ParseException(RecruitSortOrder.MESSAGE_CONSTRAINTS);
+        }
+        return new SortCommand(new RecruitSortOrder(criteria));
+    }
+
+}
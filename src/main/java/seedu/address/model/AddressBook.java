@@ -2,13 +2,20 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.recruit.NestedOrPredicate;
 import seedu.address.model.recruit.Recruit;
+import seedu.address.model.recruit.RecruitSearchIndex;
+import seedu.address.model.recruit.RecruitSortOrder;
 import seedu.address.model.recruit.UniqueRecruitList;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -17,6 +24,7 @@ import seedu.address.model.recruit.UniqueRecruitList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniqueRecruitList recruits;
+    private final RecruitSearchIndex searchIndex = new RecruitSearchIndex();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -47,6 +55,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setRecruits(List<Recruit> recruits) {
         this.recruits.setRecruits(recruits);
+        searchIndex.clear();
+        recruits.forEach(searchIndex::add);
     }
 
     /**
@@ -74,6 +84,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addRecruit(Recruit p) {
         recruits.add(p);
+        searchIndex.add(p);
+    }
+
+    /**
+     * Adds {@code recruits} to the address book as a single change.
+     * None of them may already exist in the address book or appear twice in {@code recruits}.
+     */
+    public void addRecruits(List<Recruit> recruits) {
+        this.recruits.addAll(recruits);
+        recruits.forEach(searchIndex::add);
     }
 
     /**
@@ -85,6 +105,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedRecruit);
 
         recruits.setRecruit(target, editedRecruit);
+        searchIndex.remove(target);
+        searchIndex.add(editedRecruit);
     }
 
     /**
@@ -93,15 +115,44 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeRecruit(Recruit key) {
         recruits.remove(key);
+        searchIndex.remove(key);
+    }
+
+    /**
+     * Sorts the recruits in the address book in {@code sortOrder}, and keeps them sorted in it as recruits are added,
+     * edited and replaced, until {@link #clearSortOrder()} is called.
+     */
+    public void sortRecruits(RecruitSortOrder sortOrder) {
+        recruits.sort(sortOrder);
+    }
+
+    /**
+     * Stops keeping the recruits sorted. Recruits keep their current order, and are added to the end again.
+     */
+    public void clearSortOrder() {
+        recruits.clearSortOrder();
+    }
+
+    @Override
+    public Optional<RecruitSortOrder> getSortOrder() {
+        return recruits.getSortOrder();
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that is answered from this address book's search index
+     * instead of by testing every recruit.
+     */
+    public Predicate<Recruit> getIndexedPredicate(NestedOrPredicate predicate) {
+        requireNonNull(predicate);
+        return searchIndex.lookup(predicate);
     }
 
     /**
-     * Sorts the recruits in the address book by name in alphabetical order.
+     * Returns the number of {@code recruits} in this address book having each tag, omitting tags none of them have.
      */
-    public void sortRecruits() {
-        Comparator<Recruit> comparator;
-        comparator = Comparator.comparing(Recruit::getName);
-        recruits.sort(comparator);
+    public Map<Tag, Integer> getTagCounts(Collection<Recruit> recruits) {
+        requireNonNull(recruits);
+        return searchIndex.countTags(recruits);
     }
 
     //// util methods
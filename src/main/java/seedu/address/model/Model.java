@@ -1,13 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.recruit.NestedOrPredicate;
 import seedu.address.model.recruit.Recruit;
+import seedu.address.model.recruit.RecruitSortOrder;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -68,17 +73,35 @@ public interface Model {
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
+     * The filtered recruit list keeps its predicate, and only shows {@code person} if it matches.
      */
     void addRecruit(Recruit recruit);
 
+    /**
+     * Adds the given recruits as a single change to the recruit list.
+     * None of {@code recruits} may already exist in the address book or appear twice in {@code recruits}.
+     * The filtered recruit list keeps its predicate, and only shows the recruits that match it.
+     */
+    void addRecruits(List<Recruit> recruits);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * The filtered recruit list keeps its predicate, and only shows {@code editedPerson} if it matches.
      */
     void setRecruit(Recruit target, Recruit editedRecruit);
 
-    void sortRecruits();
+    /**
+     * Sorts the recruits in the address book in {@code sortOrder}, and keeps them sorted in it as recruits are added
+     * and edited, until {@link #clearRecruitSortOrder()} is called. The sort order is saved in the user prefs.
+     */
+    void sortRecruits(RecruitSortOrder sortOrder);
+
+    /**
+     * Stops keeping the recruits in the address book sorted, and removes the sort order from the user prefs.
+     */
+    void clearRecruitSortOrder();
 
     /** Returns an unmodifiable view of the filtered recruit list */
     ObservableList<Recruit> getFilteredRecruitList();
@@ -94,4 +117,16 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredRecruitList(Predicate<Recruit> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, looking up the
+     * matching recruits in the address book's search index.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredRecruitList(NestedOrPredicate predicate);
+
+    /**
+     * Returns the number of recruits in the filtered recruit list having each tag, omitting tags none of them have.
+     */
+    Map<Tag, Integer> getFilteredTagCounts();
 }
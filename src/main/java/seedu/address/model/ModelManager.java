@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Predicate;
@@ -13,7 +15,10 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.recruit.NestedOrPredicate;
 import seedu.address.model.recruit.Recruit;
+import seedu.address.model.recruit.RecruitSortOrder;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -23,6 +28,8 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
+    // Patched from the change events of the recruit list, so that the active predicate is only tested against the
+    // recruits added or replaced by a mutation, and only replacing the predicate tests every recruit.
     private final FilteredList<Recruit> filteredRecruits;
 
     /**
@@ -35,6 +42,7 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.userPrefs.getRecruitSortOrder().ifPresent(this.addressBook::sortRecruits);
         filteredRecruits = new FilteredList<>(this.addressBook.getRecruitList());
     }
 
@@ -103,7 +111,12 @@ public class ModelManager implements Model {
     @Override
     public void addRecruit(Recruit recruit) {
         addressBook.addRecruit(recruit);
-        updateFilteredRecruitList(PREDICATE_SHOW_ALL_RECRUITS);
+    }
+
+    @Override
+    public void addRecruits(List<Recruit> recruits) {
+        requireNonNull(recruits);
+        addressBook.addRecruits(recruits);
     }
 
     @Override
@@ -114,8 +127,16 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void sortRecruits() {
-        addressBook.sortRecruits();
+    public void sortRecruits(RecruitSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        addressBook.sortRecruits(sortOrder);
+        userPrefs.setRecruitSortOrder(sortOrder);
+    }
+
+    @Override
+    public void clearRecruitSortOrder() {
+        addressBook.clearSortOrder();
+        userPrefs.clearRecruitSortOrder();
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -135,6 +156,17 @@ public class ModelManager implements Model {
         filteredRecruits.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredRecruitList(NestedOrPredicate predicate) {
+        requireNonNull(predicate);
+        filteredRecruits.setPredicate(addressBook.getIndexedPredicate(predicate));
+    }
+
+    @Override
+    public Map<Tag, Integer> getFilteredTagCounts() {
+        return addressBook.getTagCounts(filteredRecruits);
+    }
+
     public Optional<Recruit> getFilteredRecruitByID(UUID id) {
         return this.filteredRecruits.stream().findFirst().filter(x -> x.getID().equals(id));
     }
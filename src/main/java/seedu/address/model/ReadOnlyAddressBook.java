@@ -1,7 +1,10 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.recruit.Recruit;
+import seedu.address.model.recruit.RecruitSortOrder;
 
 /**
  * Unmodifiable view of an address book
@@ -14,4 +17,11 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Recruit> getRecruitList();
 
+    /**
+     * Returns the order the persons list is kept sorted in, if any.
+     */
+    default Optional<RecruitSortOrder> getSortOrder() {
+        return Optional.empty();
+    }
+
 }
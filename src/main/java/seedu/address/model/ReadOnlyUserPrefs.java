@@ -1,8 +1,11 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Optional;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.model.recruit.RecruitSortOrder;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +16,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    StorageFormat getAddressBookStorageFormat();
+
+    Optional<RecruitSortOrder> getRecruitSortOrder();
+
 }
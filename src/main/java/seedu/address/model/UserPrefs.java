@@ -2,19 +2,34 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.recruit.RecruitSortOrder;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    private static final Logger logger = LogsCenter.getLogger(UserPrefs.class);
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private StorageFormat addressBookStorageFormat = StorageFormat.JSON;
+    private RecruitSortOrder recruitSortOrder = null; // null represents no sort order
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +51,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookStorageFormat(newUserPrefs.getAddressBookStorageFormat());
+        recruitSortOrder = newUserPrefs.getRecruitSortOrder().orElse(null);
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +73,46 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public StorageFormat getAddressBookStorageFormat() {
+        return addressBookStorageFormat;
+    }
+
+    public void setAddressBookStorageFormat(StorageFormat addressBookStorageFormat) {
+        requireNonNull(addressBookStorageFormat);
+        this.addressBookStorageFormat = addressBookStorageFormat;
+    }
+
+    public Optional<RecruitSortOrder> getRecruitSortOrder() {
+        return Optional.ofNullable(recruitSortOrder);
+    }
+
+    public void setRecruitSortOrder(RecruitSortOrder recruitSortOrder) {
+        requireNonNull(recruitSortOrder);
+        this.recruitSortOrder = recruitSortOrder;
+    }
+
+    public void clearRecruitSortOrder() {
+        recruitSortOrder = null;
+    }
+
+    /**
+     * Sets the recruit sort order read from the user prefs file. An invalid sort order is replaced by no sort order,
+     * rather than failing to read the rest of the prefs.
+     */
+    @JsonSetter("recruitSortOrder")
+    private void readRecruitSortOrder(JsonNode recruitSortOrderNode) {
+        recruitSortOrder = null;
+        if (recruitSortOrderNode == null || recruitSortOrderNode.isNull()) {
+            return;
+        }
+        try {
+            recruitSortOrder = JsonUtil.fromJsonString(recruitSortOrderNode.toString(), RecruitSortOrder.class);
+        } catch (IOException e) {
+            logger.warning("Ignoring invalid recruit sort order " + recruitSortOrderNode + ": "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +126,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookStorageFormat == otherUserPrefs.addressBookStorageFormat
+                && Objects.equals(recruitSortOrder, otherUserPrefs.recruitSortOrder);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookStorageFormat, recruitSortOrder);
     }
 
     @Override
@@ -82,6 +141,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookStorageFormat);
+        sb.append("\nRecruit sort order : " + getRecruitSortOrder().map(RecruitSortOrder::getDescription)
+                .orElse("none"));
         return sb.toString();
     }
 
@@ -3,6 +3,9 @@ package seedu.address.model.recruit;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.InternPool;
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -17,7 +20,11 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final int ADDRESS_SIZE = 24;
+    private static final InternPool<Address> POOL = new InternPool<>("addresses", Address::estimateSize);
+
     public final String value;
+    private final String searchKey;
 
     /**
      * Constructs an {@code Address}.
@@ -28,13 +35,56 @@ public class Address {
         requireNonNull(address);
         checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
         value = address;
+        searchKey = StringUtil.toSearchKey(address);
     }
 
     /**
-     * Returns true if a given string is a valid email.
+     * Returns the canonical {@code Address} with the given value, shared by every address created through this
+     * method, so that recruits living at the same address share a single instance.
+     *
+     * @param address A valid address.
+     */
+    public static Address of(String address) {
+        return POOL.intern(new Address(address));
+    }
+
+    /**
+     * Returns true if a given string is a valid address.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, without compiling it: the first character must not be
+     * whitespace, and no other character may end a line.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || isWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is not matched by {@code .} in a regular expression.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Returns the address folded for case and accent insensitive matching, as by
+     * {@link StringUtil#toSearchKey(String)}.
+     */
+    public String getSearchKey() {
+        return searchKey;
     }
 
     @Override
@@ -42,6 +92,11 @@ public class Address {
         return value;
     }
 
+    private long estimateSize() {
+        long size = ADDRESS_SIZE + InternPool.estimateSize(value);
+        return searchKey == value ? size : size + InternPool.estimateSize(searchKey);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,160 @@
+package seedu.address.model.recruit;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A sorted set of non-negative ints stored as variable-length deltas between consecutive values.
+ * Adding a value greater than every value in the list appends it in constant amortized time; any other update
+ * re-encodes the list.
+ */
+class CompressedPostingList {
+
+    private byte[] bytes = new byte[4];
+    private int length;
+    private int size;
+    private int last = -1;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Adds {@code value} to the list, if it is not already present.
+     */
+    public void add(int value) {
+        if (value > last) {
+            append(value);
+            return;
+        }
+
+        int[] values = toArray();
+        int index = Arrays.binarySearch(values, value);
+        if (index >= 0) {
+            return;
+        }
+        int insertionPoint = -index - 1;
+        int[] updated = new int[values.length + 1];
+        System.arraycopy(values, 0, updated, 0, insertionPoint);
+        updated[insertionPoint] = value;
+        System.arraycopy(values, insertionPoint, updated, insertionPoint + 1, values.length - insertionPoint);
+        encode(updated);
+    }
+
+    /**
+     * Removes {@code value} from the list, if it is present.
+     */
+    public void remove(int value) {
+        if (value > last) {
+            return;
+        }
+
+        int[] values = toArray();
+        int index = Arrays.binarySearch(values, value);
+        if (index < 0) {
+            return;
+        }
+        int[] updated = new int[values.length - 1];
+        System.arraycopy(values, 0, updated, 0, index);
+        System.arraycopy(values, index + 1, updated, index, values.length - index - 1);
+        encode(updated);
+    }
+
+    /**
+     * Returns the values in the list in ascending order.
+     */
+    public int[] toArray() {
+        int[] values = new int[size];
+        int position = 0;
+        int value = -1;
+        for (int i = 0; i < size; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            value += delta;
+            values[i] = value;
+        }
+        return values;
+    }
+
+    /**
+     * Sets the bits of {@code bitSet} at every value in the list.
+     */
+    public void addTo(BitSet bitSet) {
+        for (int value : toArray()) {
+            bitSet.set(value);
+        }
+    }
+
+    /**
+     * Returns the values present in every one of {@code lists}, which must not be empty.
+     * Lists are intersected from the shortest up, so the work done is bounded by the shortest list as soon as
+     * the running intersection becomes empty.
+     */
+    public static BitSet intersect(List<CompressedPostingList> lists) {
+        List<CompressedPostingList> sorted = lists.stream()
+                .sorted(Comparator.comparingInt(CompressedPostingList::size))
+                .toList();
+        int[] result = sorted.get(0).toArray();
+        int resultSize = result.length;
+        for (int i = 1; i < sorted.size() && resultSize > 0; i++) {
+            int[] other = sorted.get(i).toArray();
+            int kept = 0;
+            int j = 0;
+            for (int k = 0; k < resultSize && j < other.length; ) {
+                if (result[k] < other[j]) {
+                    k++;
+                } else if (result[k] > other[j]) {
+                    j++;
+                } else {
+                    result[kept++] = result[k];
+                    k++;
+                    j++;
+                }
+            }
+            resultSize = kept;
+        }
+
+        BitSet bitSet = new BitSet();
+        for (int i = 0; i < resultSize; i++) {
+            bitSet.set(result[i]);
+        }
+        return bitSet;
+    }
+
+    private void append(int value) {
+        int delta = value - last;
+        if (length + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+        }
+        while ((delta & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        bytes[length++] = (byte) delta;
+        last = value;
+        size++;
+    }
+
+    private void encode(int[] values) {
+        bytes = new byte[Math.max(4, values.length * 2)];
+        length = 0;
+        size = 0;
+        last = -1;
+        for (int value : values) {
+            append(value);
+        }
+    }
+
+}
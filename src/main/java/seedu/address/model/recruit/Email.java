@@ -3,6 +3,8 @@ package seedu.address.model.recruit;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -32,6 +34,7 @@ public class Email {
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
 
     public final String value;
+    private final String searchKey;
 
     /**
      * Constructs an {@code Email}.
@@ -42,13 +45,69 @@ public class Email {
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
+        searchKey = StringUtil.toSearchKey(email);
     }
 
     /**
      * Returns if a given string is a valid email.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, without compiling it.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int at = test.indexOf('@');
+        return at >= 0 && isValidLocalPart(test, at) && isValidDomain(test, at + 1);
+    }
+
+    /**
+     * Returns true if {@code test} up to {@code end} is a valid local-part: runs of alphanumeric characters,
+     * separated by single special characters.
+     */
+    private static boolean isValidLocalPart(String test, int end) {
+        boolean isAfterAlphanumeric = false;
+        for (int i = 0; i < end; i++) {
+            char c = test.charAt(i);
+            if (StringUtil.isAsciiAlphanumeric(c)) {
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric;
+    }
+
+    /**
+     * Returns true if {@code test} from {@code start} is a valid domain name: domain labels separated by periods,
+     * each made of runs of alphanumeric characters separated by single hyphens.
+     * The regex requires the last label to be at least two domain-part repetitions long, which holds exactly when
+     * one of its runs has at least two characters.
+     */
+    private static boolean isValidDomain(String test, int start) {
+        int runLength = 0;
+        boolean hasLongRunInLabel = false;
+        for (int i = start; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (StringUtil.isAsciiAlphanumeric(c)) {
+                runLength++;
+                hasLongRunInLabel |= runLength >= 2;
+            } else if ((c == '-' || c == '.') && runLength > 0) {
+                runLength = 0;
+                if (c == '.') {
+                    hasLongRunInLabel = false;
+                }
+            } else {
+                return false;
+            }
+        }
+        return runLength > 0 && hasLongRunInLabel;
+    }
+
+    /**
+     * Returns the email folded for case and accent insensitive matching, as by
+     * {@link StringUtil#toSearchKey(String)}.
+     */
+    public String getSearchKey() {
+        return searchKey;
     }
 
     @Override
@@ -1,25 +1,19 @@
 package seedu.address.model.recruit;
 
-import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_ADDRESS;
-import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_EMAIL;
-import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_ID;
-import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_NAME;
-import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_PHONE;
-import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_TAG;
-
 import java.util.List;
-import java.util.UUID;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.parser.Prefix;
 
 /**
- * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Tests that any value of a field of a {@code Recruit} contains any of the keywords given, ignoring case and
+ * accents, by comparing their search keys. Every alias of a multi-valued field is checked, not just the primary one.
  */
 public class FieldContainsKeywordsPredicate implements Predicate<Recruit> {
     private final List<String> keywords;
     private final Prefix prefix;
+    private final RecruitQueryPlan.Clause clause;
 
     /**
      * Constructor to create an instance of the FieldContainsKeywordsPredicate
@@ -29,37 +23,27 @@ public class FieldContainsKeywordsPredicate implements Predicate<Recruit> {
     public FieldContainsKeywordsPredicate(List<String> keywords, Prefix prefix) {
         this.keywords = keywords;
         this.prefix = prefix;
+        this.clause = RecruitQueryPlan.Clause.compile(prefix, keywords);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public Prefix getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Returns this predicate compiled for repeated evaluation.
+     */
+    RecruitQueryPlan.Clause getClause() {
+        return clause;
     }
 
     @Override
     public boolean test(Recruit recruit) {
-        if (prefix.equals(SEARCH_PREFIX_ID)) {
-            return keywords.stream()
-                    .anyMatch(keyword -> recruit.getID().equals(UUID.fromString(keyword)));
-        } else if (prefix.equals(SEARCH_PREFIX_NAME)) {
-            return keywords.stream()
-                    .anyMatch(keyword -> recruit.getName().fullName.toLowerCase()
-                            .contains(keyword.toLowerCase()));
-        } else if (prefix.equals(SEARCH_PREFIX_EMAIL)) {
-            return keywords.stream()
-                    .anyMatch(keyword -> recruit.getEmail().value.toLowerCase()
-                            .contains(keyword.toLowerCase()));
-        } else if (prefix.equals(SEARCH_PREFIX_PHONE)) {
-            return keywords.stream()
-                    .anyMatch(keyword -> recruit.getPhone().value.toLowerCase()
-                            .contains(keyword.toLowerCase()));
-        } else if (prefix.equals(SEARCH_PREFIX_ADDRESS)) {
-            return keywords.stream()
-                    .anyMatch(keyword -> recruit.getAddress().value.toLowerCase()
-                            .contains(keyword.toLowerCase()));
-        } else if (prefix.equals(SEARCH_PREFIX_TAG)) {
-            return keywords.stream()
-                    .anyMatch(keyword -> recruit.getTags().stream()
-                            .anyMatch(tag -> tag.tagName.toLowerCase()
-                                    .contains(keyword.toLowerCase())));
-        } else {
-            return false;
-        }
+        return clause.test(recruit);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.recruit;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +21,7 @@ public class Name implements Comparable<Name> {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullName;
+    private final String searchKey;
 
     /**
      * Constructs a {@code Name}.
@@ -29,16 +32,35 @@ public class Name implements Comparable<Name> {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        searchKey = StringUtil.toSearchKey(name);
     }
 
     /**
      * Returns true if a given string is a valid name.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, without compiling it.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || !StringUtil.isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !StringUtil.isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
 
+    /**
+     * Returns the name folded for case and accent insensitive matching, as by
+     * {@link StringUtil#toSearchKey(String)}.
+     */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     @Override
     public String toString() {
         return fullName;
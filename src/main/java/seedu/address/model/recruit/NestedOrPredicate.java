@@ -13,6 +13,7 @@ import seedu.address.commons.util.ToStringBuilder;
 public class NestedOrPredicate implements Predicate<Recruit> {
 
     private final List<FieldContainsKeywordsPredicate> predicates;
+    private final RecruitQueryPlan plan;
 
     /**
      * Constructs a NestedOrPredicate with one or more FieldContainsKeywordsPredicate.
@@ -21,12 +22,17 @@ public class NestedOrPredicate implements Predicate<Recruit> {
      */
     public NestedOrPredicate(FieldContainsKeywordsPredicate... predicates) {
         this.predicates = Arrays.asList(predicates);
+        this.plan = RecruitQueryPlan.compile(this.predicates);
+    }
+
+    public List<FieldContainsKeywordsPredicate> getPredicates() {
+        return predicates;
     }
 
     @Override
     public boolean test(Recruit recruit) {
-        // Return true if any of the predicates match
-        return predicates.stream().allMatch(p -> p.test(recruit));
+        // Return true if all of the predicates match, testing the most selective ones first
+        return plan.test(recruit);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.recruit;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -13,7 +15,9 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,}";
+    private static final int MIN_LENGTH = 3;
     public final String value;
+    private final String searchKey;
 
     /**
      * Constructs a {@code Phone}.
@@ -24,13 +28,32 @@ public class Phone {
         requireNonNull(phone);
         checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
         value = phone;
+        searchKey = StringUtil.toSearchKey(phone);
     }
 
     /**
      * Returns true if a given string is a valid phone number.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, without compiling it.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.length() < MIN_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the phone number folded for case and accent insensitive matching, as by
+     * {@link StringUtil#toSearchKey(String)}.
+     */
+    public String getSearchKey() {
+        return searchKey;
     }
 
     @Override
@@ -4,6 +4,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -29,6 +30,9 @@ public class Recruit {
     private final ArrayList<Address> addresses;
     private final Set<Tag> tags = new HashSet<>();
 
+    // Computed on first use, as most recruits are never displayed.
+    private List<Tag> sortedTags;
+
     /**
      * Every field except for id must be present and not null.
      */
@@ -126,6 +130,18 @@ public class Recruit {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the tags sorted by name, in an immutable list that is only sorted the first time it is asked for.
+     */
+    public List<Tag> getSortedTags() {
+        List<Tag> sorted = sortedTags;
+        if (sorted == null) {
+            sorted = tags.stream().sorted(Comparator.comparing(tag -> tag.tagName)).toList();
+            sortedTags = sorted;
+        }
+        return sorted;
+    }
+
     /**
      * Returns true if both persons have the same id.
      * This defines a weaker notion of equality between two persons.
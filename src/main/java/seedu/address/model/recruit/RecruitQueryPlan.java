@@ -0,0 +1,312 @@
+package seedu.address.model.recruit;
+
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_TAG;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A conjunction of {@link FieldContainsKeywordsPredicate}s compiled for repeated evaluation.
+ *
+ * Each field predicate is compiled once into a clause: keywords are folded into search keys and ids parsed up front,
+ * and testing a recruit matches them against the search keys its values cached on construction, looping over plain
+ * arrays without allocating strings, streams or lambdas. Clauses are ordered by their estimated cost, so that the
+ * cheapest and most selective clauses reject most recruits before the others are evaluated. Since every clause is
+ * free of side effects, the order does not change the result. The exception is an id clause with a keyword that is not
+ * an id, which throws when it is reached: it keeps its place, and clauses are only reordered among those on the same
+ * side of it, so that it is reached for exactly the recruits it would be reached for without reordering.
+ */
+public class RecruitQueryPlan implements Predicate<Recruit> {
+
+    private final Clause[] clauses;
+
+    private RecruitQueryPlan(Clause[] clauses) {
+        this.clauses = clauses;
+    }
+
+    /**
+     * Compiles the conjunction of {@code predicates} into a plan.
+     */
+    public static RecruitQueryPlan compile(List<FieldContainsKeywordsPredicate> predicates) {
+        Clause[] clauses = new Clause[predicates.size()];
+        for (int i = 0; i < clauses.length; i++) {
+            clauses[i] = predicates.get(i).getClause();
+        }
+
+        Comparator<Clause> byEstimatedCost = Comparator.comparingInt((Clause clause) -> clause.cost)
+                .thenComparingInt(clause -> -clause.shortestKeywordLength);
+        int segmentStart = 0;
+        for (int i = 0; i <= clauses.length; i++) {
+            if (i == clauses.length || clauses[i].canThrow()) {
+                Arrays.sort(clauses, segmentStart, i, byEstimatedCost);
+                segmentStart = i + 1;
+            }
+        }
+        return new RecruitQueryPlan(clauses);
+    }
+
+    /**
+     * Returns the prefixes of the clauses of this plan, in the order they are evaluated.
+     */
+    List<Prefix> getEvaluationOrder() {
+        return Arrays.stream(clauses).map(clause -> clause.prefix).toList();
+    }
+
+    @Override
+    public boolean test(Recruit recruit) {
+        for (Clause clause : clauses) {
+            if (!clause.test(recruit)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A compiled {@link FieldContainsKeywordsPredicate}: tests that any value of a field contains any keyword.
+     */
+    abstract static class Clause {
+
+        // Relative cost of testing a single keyword against a field, which also grows with how long and how many
+        // the values of the field usually are, and so with how likely a keyword is to be found in them.
+        private static final int ID_COST = 0;
+        private static final int PHONE_COST = 1;
+        private static final int TAG_COST = 2;
+        private static final int EMAIL_COST = 3;
+        private static final int NAME_COST = 4;
+        private static final int ADDRESS_COST = 6;
+
+        private final Prefix prefix;
+        private final int cost;
+        private final int shortestKeywordLength;
+
+        private Clause(Prefix prefix, int keywordCost, String[] keywords) {
+            this.prefix = prefix;
+            // a clause with more keywords takes longer to test, and matches more recruits
+            this.cost = keywordCost * keywords.length;
+            this.shortestKeywordLength = Arrays.stream(keywords).mapToInt(String::length).min().orElse(0);
+        }
+
+        /**
+         * Compiles the predicate that any value of the field with the given {@code prefix} contains any of
+         * {@code keywords}, ignoring case and accents.
+         */
+        static Clause compile(Prefix prefix, List<String> keywords) {
+            String[] keywordArray = keywords.toArray(new String[0]);
+            if (prefix.equals(SEARCH_PREFIX_ID)) {
+                return new IdClause(prefix, keywordArray);
+            }
+
+            String[] keywordKeys = new String[keywordArray.length];
+            for (int i = 0; i < keywordArray.length; i++) {
+                keywordKeys[i] = StringUtil.toSearchKey(keywordArray[i]);
+            }
+            if (prefix.equals(SEARCH_PREFIX_NAME)) {
+                return new TextClause(prefix, NAME_COST, keywordKeys, TextField.NAME);
+            } else if (prefix.equals(SEARCH_PREFIX_PHONE)) {
+                return new TextClause(prefix, PHONE_COST, keywordKeys, TextField.PHONE);
+            } else if (prefix.equals(SEARCH_PREFIX_EMAIL)) {
+                return new TextClause(prefix, EMAIL_COST, keywordKeys, TextField.EMAIL);
+            } else if (prefix.equals(SEARCH_PREFIX_ADDRESS)) {
+                return new TextClause(prefix, ADDRESS_COST, keywordKeys, TextField.ADDRESS);
+            } else if (prefix.equals(SEARCH_PREFIX_TAG)) {
+                return new TagClause(prefix, keywordKeys);
+            } else {
+                return new NoMatchClause(prefix);
+            }
+        }
+
+        abstract boolean test(Recruit recruit);
+
+        /**
+         * Returns true if testing a recruit may throw an exception.
+         */
+        boolean canThrow() {
+            return false;
+        }
+    }
+
+    /**
+     * Matches recruits with any of the given ids. Keywords that are not ids are parsed again when they are reached,
+     * so that they fail exactly as they would if they were never compiled.
+     */
+    private static class IdClause extends Clause {
+
+        private final String[] keywords;
+        private final UUID[] ids;
+
+        private IdClause(Prefix prefix, String[] keywords) {
+            super(prefix, Clause.ID_COST, keywords);
+            this.keywords = keywords;
+            this.ids = new UUID[keywords.length];
+            for (int i = 0; i < keywords.length; i++) {
+                try {
+                    ids[i] = UUID.fromString(keywords[i]);
+                } catch (IllegalArgumentException e) {
+                    ids[i] = null;
+                }
+            }
+        }
+
+        @Override
+        boolean test(Recruit recruit) {
+            UUID recruitId = recruit.getID();
+            for (int i = 0; i < ids.length; i++) {
+                UUID id = ids[i] == null ? UUID.fromString(keywords[i]) : ids[i];
+                if (recruitId.equals(id)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        boolean canThrow() {
+            return Arrays.asList(ids).contains(null);
+        }
+    }
+
+    /**
+     * The multi-valued text fields of a recruit, accessed by index so that the search keys of their values can be
+     * visited without allocating.
+     */
+    private enum TextField {
+        NAME {
+            @Override
+            int size(Recruit recruit) {
+                return recruit.getNames().size();
+            }
+
+            @Override
+            String get(Recruit recruit, int index) {
+                return recruit.getNames().get(index).getSearchKey();
+            }
+        },
+        PHONE {
+            @Override
+            int size(Recruit recruit) {
+                return recruit.getPhones().size();
+            }
+
+            @Override
+            String get(Recruit recruit, int index) {
+                return recruit.getPhones().get(index).getSearchKey();
+            }
+        },
+        EMAIL {
+            @Override
+            int size(Recruit recruit) {
+                return recruit.getEmails().size();
+            }
+
+            @Override
+            String get(Recruit recruit, int index) {
+                return recruit.getEmails().get(index).getSearchKey();
+            }
+        },
+        ADDRESS {
+            @Override
+            int size(Recruit recruit) {
+                return recruit.getAddresses().size();
+            }
+
+            @Override
+            String get(Recruit recruit, int index) {
+                return recruit.getAddresses().get(index).getSearchKey();
+            }
+        };
+
+        abstract int size(Recruit recruit);
+
+        abstract String get(Recruit recruit, int index);
+    }
+
+    /**
+     * Matches recruits with any alias of a text field whose search key contains the search key of any keyword.
+     */
+    private static class TextClause extends Clause {
+
+        private final String[] keywordKeys;
+        private final TextField field;
+
+        private TextClause(Prefix prefix, int keywordCost, String[] keywordKeys, TextField field) {
+            super(prefix, keywordCost, keywordKeys);
+            this.keywordKeys = keywordKeys;
+            this.field = field;
+        }
+
+        @Override
+        boolean test(Recruit recruit) {
+            if (keywordKeys.length == 0) {
+                return false;
+            }
+            int size = field.size(recruit);
+            for (int i = 0; i < size; i++) {
+                String valueKey = field.get(recruit, i);
+                for (String keywordKey : keywordKeys) {
+                    if (valueKey.contains(keywordKey)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Matches recruits with any tag whose search key contains the search key of any keyword.
+     */
+    private static class TagClause extends Clause {
+
+        private final String[] keywordKeys;
+
+        private TagClause(Prefix prefix, String[] keywordKeys) {
+            super(prefix, Clause.TAG_COST, keywordKeys);
+            this.keywordKeys = keywordKeys;
+        }
+
+        @Override
+        boolean test(Recruit recruit) {
+            if (keywordKeys.length == 0) {
+                return false;
+            }
+            for (Tag tag : recruit.getTags()) {
+                String tagKey = tag.getSearchKey();
+                for (String keywordKey : keywordKeys) {
+                    if (tagKey.contains(keywordKey)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Matches no recruit, for fields that cannot be searched.
+     */
+    private static class NoMatchClause extends Clause {
+
+        private NoMatchClause(Prefix prefix) {
+            super(prefix, Clause.ID_COST, new String[0]);
+        }
+
+        @Override
+        boolean test(Recruit recruit) {
+            return false;
+        }
+    }
+
+}
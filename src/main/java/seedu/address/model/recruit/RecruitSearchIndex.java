@@ -0,0 +1,278 @@
+package seedu.address.model.recruit;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index over the searchable fields of recruits, used to answer {@link NestedOrPredicate}s without testing
+ * every recruit.
+ *
+ * Each indexed recruit occupies a slot. Slots are handed out in ascending order and never reused, so indexing a
+ * recruit, including an edited one, only ever appends to the posting lists of its trigrams. Removing a recruit
+ * only empties its slot, and the posting lists keep it until the index is rebuilt: once more than half the slots
+ * are empty, the remaining recruits are moved to fresh slots, which costs each removal constant amortized time.
+ *
+ * The search key of every alias of its names, phones, emails and addresses is
+ * indexed by its trigrams (see {@link TrigramIndex}). Trigrams shared by several aliases of a recruit are posted
+ * once, so a recruit with aliases costs a lookup no more than one without. Each tag keeps a {@link SlotBitmap} of the
+ * recruits that have it, which also lets the tags of any set of indexed recruits be counted without visiting their
+ * tag sets.
+ * A lookup intersects the candidate slots of each field predicate, and only tests the recruits in the intersection,
+ * so it returns exactly what testing every recruit would. Keywords too short to be looked up by their trigrams, and
+ * ids that are not valid, leave every recruit a candidate.
+ */
+public class RecruitSearchIndex {
+
+    private static final Map<Prefix, Function<Recruit, List<String>>> TEXT_FIELD_VALUES = Map.of(
+            SEARCH_PREFIX_NAME, recruit -> recruit.getNames().stream().map(Name::getSearchKey).toList(),
+            SEARCH_PREFIX_PHONE, recruit -> recruit.getPhones().stream().map(Phone::getSearchKey).toList(),
+            SEARCH_PREFIX_EMAIL, recruit -> recruit.getEmails().stream().map(Email::getSearchKey).toList(),
+            SEARCH_PREFIX_ADDRESS, recruit -> recruit.getAddresses().stream().map(Address::getSearchKey).toList());
+
+    // The number of empty slots below which the index is never rebuilt, so that small indices are not rebuilt often.
+    private static final int MIN_EMPTY_SLOTS_TO_REBUILD = 1024;
+
+    private final List<Recruit> recruitsBySlot = new ArrayList<>();
+    private final Map<UUID, Integer> slotsById = new HashMap<>();
+    private final Map<Prefix, TrigramIndex> trigramIndices = new HashMap<>();
+    private final Map<Tag, SlotBitmap> tagBitmaps = new HashMap<>();
+
+    // The modification count at which each slot was last filled, used to tell whether a recruit was indexed
+    // before or after a lookup.
+    private long[] slotStamps = new long[16];
+    private long modificationCount;
+
+    /**
+     * Creates an empty index.
+     */
+    public RecruitSearchIndex() {
+        for (Prefix prefix : TEXT_FIELD_VALUES.keySet()) {
+            trigramIndices.put(prefix, new TrigramIndex());
+        }
+    }
+
+    /**
+     * Adds {@code recruit} to the index.
+     * No recruit with the same id may already be indexed.
+     */
+    public void add(Recruit recruit) {
+        requireNonNull(recruit);
+        int slot = recruitsBySlot.size();
+        recruitsBySlot.add(recruit);
+        if (slot >= slotStamps.length) {
+            slotStamps = Arrays.copyOf(slotStamps, slotStamps.length * 2);
+        }
+        slotStamps[slot] = ++modificationCount;
+        slotsById.put(recruit.getID(), slot);
+
+        TEXT_FIELD_VALUES.forEach((prefix, values) -> trigramIndices.get(prefix).add(slot, values.apply(recruit)));
+        for (Tag tag : recruit.getTags()) {
+            tagBitmaps.computeIfAbsent(tag, unused -> new SlotBitmap()).add(slot);
+        }
+    }
+
+    /**
+     * Removes the recruit with the same id as {@code recruit} from the index, if it is indexed.
+     */
+    public void remove(Recruit recruit) {
+        requireNonNull(recruit);
+        Integer slot = slotsById.remove(recruit.getID());
+        if (slot == null) {
+            return;
+        }
+        Recruit indexed = recruitsBySlot.set(slot, null);
+        modificationCount++;
+
+        for (Tag tag : indexed.getTags()) {
+            SlotBitmap slots = tagBitmaps.get(tag);
+            slots.remove(slot);
+            if (slots.isEmpty()) {
+                tagBitmaps.remove(tag);
+            }
+        }
+
+        int emptySlotCount = recruitsBySlot.size() - slotsById.size();
+        if (emptySlotCount >= MIN_EMPTY_SLOTS_TO_REBUILD && emptySlotCount > slotsById.size()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Moves the indexed recruits to fresh slots, dropping the empty slots from the posting lists.
+     * Lookups made before the rebuild test the moved recruits with their predicates.
+     */
+    private void rebuild() {
+        List<Recruit> recruits = recruitsBySlot.stream().filter(Objects::nonNull).toList();
+        clear();
+        recruits.forEach(this::add);
+    }
+
+    /**
+     * Removes every recruit from the index.
+     */
+    public void clear() {
+        recruitsBySlot.clear();
+        slotsById.clear();
+        trigramIndices.values().forEach(TrigramIndex::clear);
+        tagBitmaps.clear();
+        modificationCount++;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate}.
+     * Recruits indexed at the time of this call are matched against the index once, here; the returned predicate
+     * then answers for them in constant time. Recruits indexed later, e.g. ones added or edited after this call,
+     * are tested with {@code predicate} itself.
+     */
+    public Predicate<Recruit> lookup(NestedOrPredicate predicate) {
+        requireNonNull(predicate);
+        BitSet matches = findCandidates(predicate);
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            Recruit recruit = recruitsBySlot.get(slot);
+            if (recruit == null || !predicate.test(recruit)) {
+                matches.clear(slot);
+            }
+        }
+        return new IndexedPredicate(predicate, matches, modificationCount);
+    }
+
+    /**
+     * Returns the number of {@code recruits} having each tag, omitting tags none of them have.
+     * Recruits that are not indexed are not counted. Each tag is counted by intersecting its bitmap with the slots
+     * of {@code recruits}, so the cost grows with the number of tags rather than with the number of recruits
+     * times their tags.
+     */
+    public Map<Tag, Integer> countTags(Collection<Recruit> recruits) {
+        requireNonNull(recruits);
+        BitSet slots = new BitSet();
+        for (Recruit recruit : recruits) {
+            Integer slot = slotsById.get(recruit.getID());
+            if (slot != null && recruitsBySlot.get(slot) == recruit) {
+                slots.set(slot);
+            }
+        }
+
+        long[] words = slots.toLongArray();
+        Map<Tag, Integer> counts = new HashMap<>();
+        tagBitmaps.forEach((tag, tagSlots) -> {
+            int count = tagSlots.intersectionCardinality(words);
+            if (count > 0) {
+                counts.put(tag, count);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Returns the slots of the recruits that may match {@code predicate}: the intersection of the candidates of
+     * each of its field predicates. The result may include empty slots.
+     */
+    private BitSet findCandidates(NestedOrPredicate predicate) {
+        if (predicate.getPredicates().isEmpty()) {
+            BitSet candidates = new BitSet();
+            candidates.set(0, recruitsBySlot.size());
+            return candidates;
+        }
+
+        BitSet candidates = null;
+        for (FieldContainsKeywordsPredicate fieldPredicate : predicate.getPredicates()) {
+            BitSet fieldCandidates = findCandidates(fieldPredicate);
+            if (candidates == null) {
+                candidates = fieldCandidates;
+            } else {
+                candidates.and(fieldCandidates);
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the slots of the recruits that may match {@code fieldPredicate}: the union of the candidates of each
+     * of its keywords.
+     */
+    private BitSet findCandidates(FieldContainsKeywordsPredicate fieldPredicate) {
+        BitSet candidates = new BitSet();
+        Prefix prefix = fieldPredicate.getPrefix();
+        for (String keyword : fieldPredicate.getKeywords()) {
+            if (prefix.equals(SEARCH_PREFIX_ID)) {
+                UUID id;
+                try {
+                    id = UUID.fromString(keyword);
+                } catch (IllegalArgumentException e) {
+                    // leave it to the predicate to fail exactly as it would without the index
+                    candidates.set(0, recruitsBySlot.size());
+                    return candidates;
+                }
+                Integer slot = slotsById.get(id);
+                if (slot != null) {
+                    candidates.set(slot);
+                }
+            } else if (prefix.equals(SEARCH_PREFIX_TAG)) {
+                String keywordKey = StringUtil.toSearchKey(keyword);
+                tagBitmaps.forEach((tag, slots) -> {
+                    if (tag.getSearchKey().contains(keywordKey)) {
+                        slots.addTo(candidates);
+                    }
+                });
+            } else if (trigramIndices.containsKey(prefix)) {
+                if (!TrigramIndex.canLookUp(keyword)) {
+                    // too short to narrow down, so every recruit is tested
+                    candidates.set(0, recruitsBySlot.size());
+                    return candidates;
+                }
+                candidates.or(trigramIndices.get(prefix).findCandidates(keyword));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * A predicate that answers from the result of an index lookup for the recruits it covers.
+     */
+    private class IndexedPredicate implements Predicate<Recruit> {
+
+        private final NestedOrPredicate predicate;
+        private final BitSet matches;
+        private final long lookupStamp;
+
+        private IndexedPredicate(NestedOrPredicate predicate, BitSet matches, long lookupStamp) {
+            this.predicate = predicate;
+            this.matches = matches;
+            this.lookupStamp = lookupStamp;
+        }
+
+        @Override
+        public boolean test(Recruit recruit) {
+            Integer slot = slotsById.get(recruit.getID());
+            if (slot != null && recruitsBySlot.get(slot) == recruit && slotStamps[slot] <= lookupStamp) {
+                return matches.get(slot);
+            }
+            return predicate.test(recruit);
+        }
+    }
+
+}
@@ -0,0 +1,276 @@
+package seedu.address.model.recruit;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An order of recruits by one or more fields, each ascending or descending. Recruits equal in every field keep their
+ * relative order.
+ *
+ * Text fields are ordered by a {@link Collator} rather than by their {@code String}s, so that e.g. upper and lower
+ * case letters are ordered together. Collating two strings is far slower than comparing them, so {@link #sort(List)}
+ * computes the {@link CollationKey} of every field of every recruit once, and sorts the recruits by their keys.
+ */
+public class RecruitSortOrder {
+
+    public static final String MESSAGE_CONSTRAINTS = "Recruits can only be sorted by each field once";
+
+    /** Sorts recruits by name from A to Z. */
+    public static final RecruitSortOrder BY_NAME = new RecruitSortOrder(List.of(new Criterion(Field.NAME, false)));
+
+    /**
+     * A field that recruits can be sorted by.
+     */
+    public enum Field {
+        NAME("name", true),
+        PHONE("phone", false),
+        EMAIL("email", true),
+        ADDRESS("address", true),
+        TAG_COUNT("tag count", false);
+
+        private final String description;
+        private final boolean isCollated;
+
+        Field(String description, boolean isCollated) {
+            this.description = description;
+            this.isCollated = isCollated;
+        }
+
+        private String getText(Recruit recruit) {
+            switch (this) {
+            case NAME:
+                return first(recruit.getNames(), name -> name.fullName);
+            case PHONE:
+                return first(recruit.getPhones(), phone -> phone.value);
+            case EMAIL:
+                return first(recruit.getEmails(), email -> email.value);
+            case ADDRESS:
+                return first(recruit.getAddresses(), address -> address.value);
+            default:
+                throw new AssertionError(this);
+            }
+        }
+
+        private static <T> String first(List<T> values, Function<T, String> toText) {
+            return values.isEmpty() ? "" : toText.apply(values.get(0));
+        }
+    }
+
+    /**
+     * A field to sort recruits by, and the direction to sort them in.
+     */
+    public static class Criterion {
+
+        private final Field field;
+        private final boolean isDescending;
+
+        /**
+         * Constructs a {@code Criterion} sorting by {@code field}.
+         */
+        @JsonCreator
+        public Criterion(@JsonProperty("field") Field field, @JsonProperty("isDescending") boolean isDescending) {
+            requireNonNull(field);
+            this.field = field;
+            this.isDescending = isDescending;
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        public boolean isDescending() {
+            return isDescending;
+        }
+
+        /**
+         * Returns a description of this criterion, e.g. "name from A to Z".
+         */
+        public String getDescription() {
+            switch (field) {
+            case PHONE:
+                return field.description + (isDescending ? " from 9 to 0" : " from 0 to 9");
+            case TAG_COUNT:
+                return field.description + (isDescending ? " from most to fewest" : " from fewest to most");
+            default:
+                return field.description + (isDescending ? " from Z to A" : " from A to Z");
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Criterion)) {
+                return false;
+            }
+
+            Criterion otherCriterion = (Criterion) other;
+            return field == otherCriterion.field && isDescending == otherCriterion.isDescending;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, isDescending);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("field", field)
+                    .add("isDescending", isDescending)
+                    .toString();
+        }
+    }
+
+    private final List<Criterion> criteria;
+
+    /**
+     * Constructs a {@code RecruitSortOrder} that sorts by the first of {@code criteria}, then by the second among
+     * recruits equal in the first, and so on.
+     *
+     * @param criteria A non-empty list of criteria, with no field appearing more than once.
+     */
+    @JsonCreator
+    public RecruitSortOrder(@JsonProperty("criteria") List<Criterion> criteria) {
+        requireNonNull(criteria);
+        checkArgument(!criteria.isEmpty() && criteria.stream().map(Criterion::getField).distinct().count()
+                == criteria.size(), MESSAGE_CONSTRAINTS);
+        this.criteria = List.copyOf(criteria);
+    }
+
+    public List<Criterion> getCriteria() {
+        return criteria;
+    }
+
+    /**
+     * Returns a comparator imposing this order, collating text fields afresh on every comparison.
+     * Use {@link #sort(List)} to sort many recruits.
+     */
+    public Comparator<Recruit> toComparator() {
+        Collator collator = createCollator();
+        Comparator<Recruit> comparator = (first, second) -> 0;
+        for (Criterion criterion : criteria) {
+            Comparator<String> textOrder = criterion.field.isCollated ? collator::compare : Comparator.naturalOrder();
+            Comparator<Recruit> byField = criterion.field == Field.TAG_COUNT
+                    ? Comparator.comparingInt(recruit -> recruit.getTags().size())
+                    : Comparator.comparing(criterion.field::getText, textOrder);
+            comparator = comparator.thenComparing(criterion.isDescending ? byField.reversed() : byField);
+        }
+        return comparator;
+    }
+
+    /**
+     * Returns {@code recruits} sorted in this order, leaving {@code recruits} unchanged.
+     * The sort keys of each recruit are computed once, and then sorted with {@link Arrays#parallelSort}, which
+     * sorts large lists across the common fork-join pool.
+     */
+    public List<Recruit> sort(List<Recruit> recruits) {
+        requireNonNull(recruits);
+        Collator collator = createCollator();
+        SortEntry[] entries = new SortEntry[recruits.size()];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = new SortEntry(recruits.get(i), collator);
+        }
+
+        Arrays.parallelSort(entries, this::compare);
+
+        List<Recruit> sorted = new ArrayList<>(entries.length);
+        for (SortEntry entry : entries) {
+            sorted.add(entry.recruit);
+        }
+        return sorted;
+    }
+
+    private static Collator createCollator() {
+        return Collator.getInstance(Locale.ROOT);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int compare(SortEntry first, SortEntry second) {
+        for (int i = 0; i < criteria.size(); i++) {
+            int result = ((Comparable) first.keys[i]).compareTo(second.keys[i]);
+            if (result != 0) {
+                return criteria.get(i).isDescending ? -result : result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * A recruit together with its sort key for each criterion, in order.
+     */
+    private class SortEntry {
+
+        private final Recruit recruit;
+        private final Comparable<?>[] keys;
+
+        private SortEntry(Recruit recruit, Collator collator) {
+            this.recruit = recruit;
+            this.keys = new Comparable<?>[criteria.size()];
+            for (int i = 0; i < keys.length; i++) {
+                Field field = criteria.get(i).field;
+                if (field == Field.TAG_COUNT) {
+                    keys[i] = recruit.getTags().size();
+                } else if (field.isCollated) {
+                    keys[i] = collator.getCollationKey(field.getText(recruit));
+                } else {
+                    keys[i] = field.getText(recruit);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RecruitSortOrder)) {
+            return false;
+        }
+
+        RecruitSortOrder otherSortOrder = (RecruitSortOrder) other;
+        return criteria.equals(otherSortOrder.criteria);
+    }
+
+    @Override
+    public int hashCode() {
+        return criteria.hashCode();
+    }
+
+    /**
+     * Returns a description of this order, e.g. "tag count from most to fewest, then by name from A to Z".
+     */
+    public String getDescription() {
+        return criteria.stream().map(Criterion::getDescription).collect(Collectors.joining(", then by "));
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("criteria", criteria)
+                .toString();
+    }
+
+}
@@ -0,0 +1,206 @@
+package seedu.address.model.recruit;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A compressed set of non-negative ints in the style of a roaring bitmap.
+ *
+ * Values are grouped by their high 16 bits into containers. A container holding few values stores their low
+ * 16 bits as a sorted array; one holding more than {@value #MAX_ARRAY_SIZE} values, where the array would be larger,
+ * stores them as a bitmap of 2^16 bits. Containers switch between the two forms as values are added and removed.
+ */
+class SlotBitmap {
+
+    static final int MAX_ARRAY_SIZE = 4096;
+
+    private static final int CONTAINER_BITS = 16;
+    private static final int LOW_MASK = (1 << CONTAINER_BITS) - 1;
+    private static final int WORDS_PER_BITMAP = (1 << CONTAINER_BITS) / Long.SIZE;
+
+    private final Map<Integer, Container> containers = new TreeMap<>();
+    private int cardinality;
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Adds {@code value} to the set, if it is not already present.
+     */
+    public void add(int value) {
+        Container container = containers.computeIfAbsent(value >>> CONTAINER_BITS, unused -> new Container());
+        if (container.add((char) (value & LOW_MASK))) {
+            cardinality++;
+        }
+    }
+
+    /**
+     * Removes {@code value} from the set, if it is present.
+     */
+    public void remove(int value) {
+        int key = value >>> CONTAINER_BITS;
+        Container container = containers.get(key);
+        if (container == null || !container.remove((char) (value & LOW_MASK))) {
+            return;
+        }
+        cardinality--;
+        if (container.size == 0) {
+            containers.remove(key);
+        }
+    }
+
+    public boolean contains(int value) {
+        Container container = containers.get(value >>> CONTAINER_BITS);
+        return container != null && container.contains((char) (value & LOW_MASK));
+    }
+
+    /**
+     * Sets the bits of {@code bitSet} at every value in the set.
+     */
+    public void addTo(BitSet bitSet) {
+        containers.forEach((key, container) -> container.addTo(bitSet, key << CONTAINER_BITS));
+    }
+
+    /**
+     * Returns the number of values in the set whose bits are set in {@code words}, a bit set in the form returned
+     * by {@link BitSet#toLongArray()}.
+     */
+    public int intersectionCardinality(long[] words) {
+        int count = 0;
+        for (Map.Entry<Integer, Container> entry : containers.entrySet()) {
+            count += entry.getValue().intersectionCardinality(words, entry.getKey() * WORDS_PER_BITMAP);
+        }
+        return count;
+    }
+
+    /**
+     * The values of the set sharing the same high 16 bits, stored either as a sorted array of their low 16 bits or
+     * as a bitmap.
+     */
+    private static class Container {
+
+        private char[] array = new char[4];
+        private long[] bitmap;
+        private int size;
+
+        boolean contains(char low) {
+            if (bitmap != null) {
+                return (bitmap[low >>> 6] & (1L << low)) != 0;
+            }
+            return Arrays.binarySearch(array, 0, size, low) >= 0;
+        }
+
+        boolean add(char low) {
+            if (bitmap != null) {
+                long before = bitmap[low >>> 6];
+                bitmap[low >>> 6] = before | (1L << low);
+                return updateSize(before, bitmap[low >>> 6]);
+            }
+
+            int index = Arrays.binarySearch(array, 0, size, low);
+            if (index >= 0) {
+                return false;
+            }
+            if (size == MAX_ARRAY_SIZE) {
+                toBitmap();
+                return add(low);
+            }
+            int insertionPoint = -index - 1;
+            if (size == array.length) {
+                array = Arrays.copyOf(array, Math.min(array.length * 2, MAX_ARRAY_SIZE));
+            }
+            System.arraycopy(array, insertionPoint, array, insertionPoint + 1, size - insertionPoint);
+            array[insertionPoint] = low;
+            size++;
+            return true;
+        }
+
+        boolean remove(char low) {
+            if (bitmap != null) {
+                long before = bitmap[low >>> 6];
+                bitmap[low >>> 6] = before & ~(1L << low);
+                boolean removed = updateSize(before, bitmap[low >>> 6]);
+                if (size <= MAX_ARRAY_SIZE) {
+                    toArray();
+                }
+                return removed;
+            }
+
+            int index = Arrays.binarySearch(array, 0, size, low);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(array, index + 1, array, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        void addTo(BitSet bitSet, int base) {
+            if (bitmap != null) {
+                for (int i = 0; i < WORDS_PER_BITMAP; i++) {
+                    for (long word = bitmap[i]; word != 0; word &= word - 1) {
+                        bitSet.set(base + i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                    }
+                }
+                return;
+            }
+            for (int i = 0; i < size; i++) {
+                bitSet.set(base + array[i]);
+            }
+        }
+
+        int intersectionCardinality(long[] words, int firstWord) {
+            if (firstWord >= words.length) {
+                return 0;
+            }
+            int count = 0;
+            if (bitmap != null) {
+                int wordCount = Math.min(WORDS_PER_BITMAP, words.length - firstWord);
+                for (int i = 0; i < wordCount; i++) {
+                    count += Long.bitCount(bitmap[i] & words[firstWord + i]);
+                }
+                return count;
+            }
+            for (int i = 0; i < size; i++) {
+                int word = firstWord + (array[i] >>> 6);
+                if (word < words.length && (words[word] & (1L << array[i])) != 0) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private boolean updateSize(long before, long after) {
+            int change = Long.bitCount(after) - Long.bitCount(before);
+            size += change;
+            return change != 0;
+        }
+
+        private void toBitmap() {
+            bitmap = new long[WORDS_PER_BITMAP];
+            for (int i = 0; i < size; i++) {
+                bitmap[array[i] >>> 6] |= 1L << array[i];
+            }
+            array = null;
+        }
+
+        private void toArray() {
+            array = new char[Math.max(4, size)];
+            int index = 0;
+            for (int i = 0; i < WORDS_PER_BITMAP; i++) {
+                for (long word = bitmap[i]; word != 0; word &= word - 1) {
+                    array[index++] = (char) (i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                }
+            }
+            bitmap = null;
+        }
+    }
+
+}
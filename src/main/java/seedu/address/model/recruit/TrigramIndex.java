@@ -0,0 +1,80 @@
+package seedu.address.model.recruit;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index from every three-character substring of the search keys of the values of a field to the slots of the
+ * recruits whose values contain it, used to find the recruits whose values may contain a keyword.
+ * Values are indexed by their search keys (see {@link StringUtil#toSearchKey(String)}), and keywords are folded the
+ * same way when they are looked up.
+ *
+ * A keyword of three or more characters can only be contained in a value that contains all of its trigrams.
+ * Shorter keywords are contained in too many values for the index to narrow them down, so they are not looked up.
+ *
+ * Slots are only ever added in ascending order, so that every posting list is appended to. Slots are not removed
+ * from the index; it is rebuilt instead (see {@link RecruitSearchIndex}).
+ */
+class TrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, CompressedPostingList> postings = new HashMap<>();
+
+    /**
+     * Indexes {@code valueKeys}, the search keys of the values of a field, under {@code slot}, which must be greater
+     * than every slot indexed so far.
+     */
+    public void add(int slot, Collection<String> valueKeys) {
+        for (String trigram : getTrigrams(valueKeys)) {
+            postings.computeIfAbsent(trigram, unused -> new CompressedPostingList()).add(slot);
+        }
+    }
+
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns true if {@code keyword} is long enough to be looked up with {@link #findCandidates(String)}.
+     */
+    public static boolean canLookUp(String keyword) {
+        return StringUtil.toSearchKey(keyword).length() >= GRAM_LENGTH;
+    }
+
+    /**
+     * Returns the slots of the recruits that may have a value containing {@code keyword}, ignoring case and accents.
+     * {@code keyword} must be long enough to be looked up (see {@link #canLookUp(String)}).
+     */
+    public BitSet findCandidates(String keyword) {
+        assert canLookUp(keyword);
+        List<CompressedPostingList> lists = new ArrayList<>();
+        for (String trigram : getTrigrams(List.of(StringUtil.toSearchKey(keyword)))) {
+            CompressedPostingList slots = postings.get(trigram);
+            if (slots == null) {
+                return new BitSet();
+            }
+            lists.add(slots);
+        }
+        return CompressedPostingList.intersect(lists);
+    }
+
+    private static Set<String> getTrigrams(Collection<String> keys) {
+        Set<String> trigrams = new HashSet<>();
+        for (String key : keys) {
+            for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+                trigrams.add(key.substring(i, i + GRAM_LENGTH));
+            }
+        }
+        return trigrams;
+    }
+
+}
@@ -3,9 +3,17 @@ package seedu.address.model.recruit;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,20 +29,41 @@ import seedu.address.model.recruit.exceptions.RecruitNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Since recruit identity is defined solely by id, an id index is kept in sync with the backing list so that
+ * identity checks do not need to scan the whole list. The position of each person is also kept by id, so that
+ * persons to edit or remove are found without scanning the list. Positions after a removal are only recomputed when
+ * one of them is next looked up, in a single pass that costs no more than the shift of the backing array the removal
+ * already did.
+ *
+ * Once sorted, the list stays sorted in the same order: added and edited persons are placed by binary search, and
+ * persons to edit or remove are also found by binary search, until {@link #clearSortOrder()} is called.
+ *
  * @see Recruit#isSameRecruit(Recruit)
  */
 public class UniqueRecruitList implements Iterable<Recruit> {
 
+    // The most places a sorted batch is inserted at one at a time, before the merged list replaces the whole list.
+    private static final int MAX_BATCH_INSERTION_POINTS = 32;
+
     private final ObservableList<Recruit> internalList = FXCollections.observableArrayList();
     private final ObservableList<Recruit> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<UUID, Recruit> recruitsById = new HashMap<>();
+
+    // The positions of persons in the list, which are correct for every position below firstStalePosition.
+    private final Map<UUID, Integer> positionsById = new HashMap<>();
+    private int firstStalePosition;
+
+    // The order the list is kept sorted in, or null if it is kept in insertion order.
+    private RecruitSortOrder sortOrder;
+    private Comparator<Recruit> sortComparator;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Recruit toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameRecruit);
+        return recruitsById.containsKey(toCheck.getID());
     }
 
     /**
@@ -46,7 +75,88 @@ public class UniqueRecruitList implements Iterable<Recruit> {
         if (contains(toAdd)) {
             throw new DuplicateRecruitException();
         }
-        internalList.add(toAdd);
+        recruitsById.put(toAdd.getID(), toAdd);
+        if (sortOrder == null) {
+            internalList.add(toAdd);
+            recordAppended(toAdd);
+        } else {
+            int index = findInsertionIndex(toAdd);
+            internalList.add(index, toAdd);
+            invalidatePositionsFrom(index);
+        }
+    }
+
+    /**
+     * Adds {@code toAdd} to the list.
+     * None of {@code toAdd} may already exist in the list or appear twice in {@code toAdd}; if any does, the list is
+     * left unchanged.
+     *
+     * An unsorted list appends the batch as a single change. A sorted list inserts each run of the sorted batch that
+     * falls between the same two persons as one change, so that listeners only see the added persons. If the batch
+     * is spread over more than {@value #MAX_BATCH_INSERTION_POINTS} places, shifting the list for every run would
+     * cost more than rebuilding it, so the batch is merged into a copy of the list in one pass, which replaces every
+     * person of the list in a single change.
+     */
+    public void addAll(List<Recruit> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<UUID> batchIds = new HashSet<>();
+        for (Recruit recruit : toAdd) {
+            if (recruitsById.containsKey(recruit.getID()) || !batchIds.add(recruit.getID())) {
+                throw new DuplicateRecruitException();
+            }
+        }
+
+        for (Recruit recruit : toAdd) {
+            recruitsById.put(recruit.getID(), recruit);
+        }
+        if (sortOrder == null) {
+            internalList.addAll(toAdd);
+            for (Recruit recruit : toAdd) {
+                recordAppended(recruit);
+            }
+        } else {
+            insertSorted(inSortOrder(toAdd));
+        }
+    }
+
+    /**
+     * Inserts the persons of the sorted list {@code toAdd} into the sorted list, after the persons equal to them in
+     * sort order.
+     */
+    private void insertSorted(List<Recruit> toAdd) {
+        if (toAdd.isEmpty()) {
+            return;
+        }
+
+        int[] insertionIndices = new int[toAdd.size()];
+        int insertionPointCount = 0;
+        int index = 0;
+        for (int i = 0; i < toAdd.size(); i++) {
+            while (index < internalList.size() && sortComparator.compare(internalList.get(index), toAdd.get(i)) <= 0) {
+                index++;
+            }
+            if (i == 0 || index != insertionIndices[i - 1]) {
+                insertionPointCount++;
+            }
+            insertionIndices[i] = index;
+        }
+
+        if (insertionPointCount > MAX_BATCH_INSERTION_POINTS) {
+            internalList.setAll(merge(internalList, toAdd));
+            invalidatePositionsFrom(0);
+            return;
+        }
+        // from the last run to the first, so that the insertion indices of the earlier runs stay correct
+        int runEnd = toAdd.size();
+        while (runEnd > 0) {
+            int runStart = runEnd - 1;
+            while (runStart > 0 && insertionIndices[runStart - 1] == insertionIndices[runEnd - 1]) {
+                runStart--;
+            }
+            internalList.addAll(insertionIndices[runStart], toAdd.subList(runStart, runEnd));
+            runEnd = runStart;
+        }
+        invalidatePositionsFrom(insertionIndices[0]);
     }
 
     /**
@@ -57,8 +167,8 @@ public class UniqueRecruitList implements Iterable<Recruit> {
     public void setRecruit(Recruit target, Recruit editedRecruit) {
         requireAllNonNull(target, editedRecruit);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Recruit existing = recruitsById.get(target.getID());
+        if (existing == null || !existing.equals(target)) {
             throw new RecruitNotFoundException();
         }
 
@@ -66,7 +176,19 @@ public class UniqueRecruitList implements Iterable<Recruit> {
             throw new DuplicateRecruitException();
         }
 
-        internalList.set(index, editedRecruit);
+        int index = indexOf(existing);
+        recruitsById.remove(target.getID());
+        recruitsById.put(editedRecruit.getID(), editedRecruit);
+        positionsById.remove(target.getID());
+        if (sortOrder == null || fitsAt(index, editedRecruit)) {
+            internalList.set(index, editedRecruit);
+            positionsById.put(editedRecruit.getID(), index);
+        } else {
+            internalList.remove(index);
+            int newIndex = findInsertionIndex(editedRecruit);
+            internalList.add(newIndex, editedRecruit);
+            invalidatePositionsFrom(Math.min(index, newIndex));
+        }
     }
 
     /**
@@ -75,14 +197,26 @@ public class UniqueRecruitList implements Iterable<Recruit> {
      */
     public void remove(Recruit toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Recruit existing = recruitsById.get(toRemove.getID());
+        if (existing == null || !existing.equals(toRemove)) {
             throw new RecruitNotFoundException();
         }
+        int index = indexOf(existing);
+        internalList.remove(index);
+        recruitsById.remove(toRemove.getID());
+        positionsById.remove(toRemove.getID());
+        invalidatePositionsFrom(index);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setRecruits(UniqueRecruitList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        recruitsById.clear();
+        recruitsById.putAll(replacement.recruitsById);
+        internalList.setAll(inSortOrder(replacement.internalList));
+        clearPositions();
     }
 
     /**
@@ -95,7 +229,12 @@ public class UniqueRecruitList implements Iterable<Recruit> {
             throw new DuplicateRecruitException();
         }
 
-        internalList.setAll(recruits);
+        recruitsById.clear();
+        for (Recruit recruit : recruits) {
+            recruitsById.put(recruit.getID(), recruit);
+        }
+        internalList.setAll(inSortOrder(recruits));
+        clearPositions();
     }
 
     /**
@@ -139,17 +278,187 @@ public class UniqueRecruitList implements Iterable<Recruit> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean recruitsAreUnique(List<Recruit> recruits) {
-        for (int i = 0; i < recruits.size() - 1; i++) {
-            for (int j = i + 1; j < recruits.size(); j++) {
-                if (recruits.get(i).isSameRecruit(recruits.get(j))) {
-                    return false;
-                }
+        Set<UUID> seenIds = new HashSet<>();
+        for (Recruit recruit : recruits) {
+            if (!seenIds.add(recruit.getID())) {
+                return false;
             }
         }
         return true;
     }
 
-    public void sort(Comparator<Recruit> comparator) {
-        FXCollections.sort(internalList, comparator);
+    /**
+     * Sorts the list in {@code sortOrder}, and keeps it sorted in that order from now on.
+     * The sorted order is computed from precomputed sort keys, and then applied to the list as a single permutation.
+     * A list that is already sorted is left unchanged.
+     */
+    public void sort(RecruitSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        this.sortOrder = sortOrder;
+        this.sortComparator = sortOrder.toComparator();
+        if (isSorted(internalList)) {
+            return;
+        }
+
+        List<Recruit> sorted = sortOrder.sort(internalList);
+        Map<Recruit, Integer> positions = new IdentityHashMap<>(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            positions.put(sorted.get(i), i);
+        }
+        FXCollections.sort(internalList, Comparator.comparingInt(positions::get));
+        invalidatePositionsFrom(0);
+    }
+
+    /**
+     * Stops keeping the list sorted. The list keeps its current order, and persons are added to its end again.
+     */
+    public void clearSortOrder() {
+        sortOrder = null;
+        sortComparator = null;
+    }
+
+    /**
+     * Returns the order the list is kept sorted in, if any.
+     */
+    public Optional<RecruitSortOrder> getSortOrder() {
+        return Optional.ofNullable(sortOrder);
+    }
+
+    /**
+     * Returns {@code recruits} in the sort order of this list, if any.
+     */
+    private List<Recruit> inSortOrder(List<Recruit> recruits) {
+        return sortOrder == null || isSorted(recruits) ? recruits : sortOrder.sort(recruits);
+    }
+
+    private boolean isSorted(List<Recruit> recruits) {
+        for (int i = 1; i < recruits.size(); i++) {
+            if (sortComparator.compare(recruits.get(i - 1), recruits.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the persons of the sorted lists {@code existing} and {@code added} in sort order, with persons of
+     * {@code existing} before the persons of {@code added} equal to them in sort order.
+     */
+    private List<Recruit> merge(List<Recruit> existing, List<Recruit> added) {
+        List<Recruit> merged = new ArrayList<>(existing.size() + added.size());
+        int i = 0;
+        int j = 0;
+        while (i < existing.size() && j < added.size()) {
+            if (sortComparator.compare(existing.get(i), added.get(j)) <= 0) {
+                merged.add(existing.get(i++));
+            } else {
+                merged.add(added.get(j++));
+            }
+        }
+        merged.addAll(existing.subList(i, existing.size()));
+        merged.addAll(added.subList(j, added.size()));
+        return merged;
+    }
+
+    /**
+     * Returns the index after every person in the sorted list that is not ordered after {@code recruit}, so that
+     * persons equal in sort order stay in the order they were added.
+     */
+    private int findInsertionIndex(Recruit recruit) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortComparator.compare(internalList.get(middle), recruit) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns true if {@code recruit} can replace the person at {@code index} of the sorted list without
+     * unsorting it.
+     */
+    private boolean fitsAt(int index, Recruit recruit) {
+        boolean isAfterPrevious = index == 0 || sortComparator.compare(internalList.get(index - 1), recruit) <= 0;
+        boolean isBeforeNext = index == internalList.size() - 1
+                || sortComparator.compare(recruit, internalList.get(index + 1)) <= 0;
+        return isAfterPrevious && isBeforeNext;
+    }
+
+    /**
+     * Records the position of {@code recruit}, which was just appended to the list, if the positions before it are
+     * all correct.
+     */
+    private void recordAppended(Recruit recruit) {
+        if (firstStalePosition == internalList.size() - 1) {
+            positionsById.put(recruit.getID(), firstStalePosition);
+            firstStalePosition++;
+        }
+    }
+
+    /**
+     * Marks the recorded positions from {@code index} onwards as stale, after persons were inserted, removed or
+     * moved there.
+     */
+    private void invalidatePositionsFrom(int index) {
+        firstStalePosition = Math.min(firstStalePosition, index);
+    }
+
+    private void clearPositions() {
+        positionsById.clear();
+        firstStalePosition = 0;
+    }
+
+    /**
+     * Returns the position of the person with {@code id}, which must be in the list. If its recorded position is
+     * stale, the positions from the first stale one to the end of the list are recomputed first.
+     */
+    private int positionOf(UUID id) {
+        Integer position = positionsById.get(id);
+        if (position == null || position >= firstStalePosition) {
+            for (int i = firstStalePosition; i < internalList.size(); i++) {
+                positionsById.put(internalList.get(i).getID(), i);
+            }
+            firstStalePosition = internalList.size();
+            position = positionsById.get(id);
+        }
+        return position;
+    }
+
+    /**
+     * Returns the index of {@code existing}, which must be in the list.
+     * In an unsorted list, the index is its recorded position. In a sorted list, the persons equal to
+     * {@code existing} in sort order are found by binary search, and only they are scanned.
+     */
+    private int indexOf(Recruit existing) {
+        if (sortOrder == null) {
+            return positionOf(existing.getID());
+        }
+
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortComparator.compare(internalList.get(middle), existing) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        // only the persons equal to existing in sort order, which start at the lower bound, can be existing
+        for (int i = low; i < internalList.size(); i++) {
+            Recruit candidate = internalList.get(i);
+            if (candidate == existing) {
+                return i;
+            }
+            if (sortComparator.compare(candidate, existing) != 0) {
+                break;
+            }
+        }
+        throw new AssertionError("A sorted list should contain its persons in sort order");
     }
 }
@@ -3,6 +3,9 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.InternPool;
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,7 +15,11 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final int TAG_SIZE = 24;
+    private static final InternPool<Tag> POOL = new InternPool<>("tags", Tag::estimateSize);
+
     public final String tagName;
+    private final String searchKey;
 
     /**
      * Constructs a {@code Tag}.
@@ -23,13 +30,45 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.searchKey = StringUtil.toSearchKey(tagName);
+    }
+
+    /**
+     * Returns the canonical {@code Tag} with the given name, shared by every tag created through this method.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return POOL.intern(new Tag(tagName));
     }
 
     /**
      * Returns true if a given string is a valid tag name.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, without compiling it.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!StringUtil.isAsciiAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the tag name folded for case and accent insensitive matching, as by
+     * {@link StringUtil#toSearchKey(String)}.
+     */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
+    private long estimateSize() {
+        long size = TAG_SIZE + InternPool.estimateSize(tagName);
+        return searchKey == tagName ? size : size + InternPool.estimateSize(searchKey);
     }
 
     @Override
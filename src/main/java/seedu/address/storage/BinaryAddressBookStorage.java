@@ -0,0 +1,390 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.recruit.Address;
+import seedu.address.model.recruit.Email;
+import seedu.address.model.recruit.Name;
+import seedu.address.model.recruit.Phone;
+import seedu.address.model.recruit.Recruit;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with a fixed-size header holding a magic number, the format version, the number of recruits and
+ * a CRC32 checksum of the rest of the file. The body holds a dictionary of every distinct tag name, followed by one
+ * record per recruit: its id as two longs, then its names, phones, emails and addresses as counted lists of
+ * length-prefixed UTF-8 strings, then its tags as a counted list of indices into the dictionary.
+ * All numbers are big-endian.
+ *
+ * The file is read through a memory-mapped {@code FileChannel}, and each distinct tag is decoded only once.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    static final int MAGIC = 0x41424B42; // "ABKB"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = Integer.BYTES * 3 + Long.BYTES;
+    static final String MESSAGE_CORRUPTED_FILE = "Binary address book file is corrupted";
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path a binary address book file kept alongside the json file at {@code jsonFilePath} should have.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The whole file is verified against its checksum before any recruit is decoded.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.of(decode(buffer));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically, so a failed or interrupted save leaves the previous content intact.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        byte[] body = encodeBody(addressBook.getRecruitList());
+        CRC32 checksum = new CRC32();
+        checksum.update(body);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(addressBook.getRecruitList().size())
+                .putLong(checksum.getValue());
+        FileUtil.writeAtomically(filePath, outputStream -> {
+            outputStream.write(header.array());
+            outputStream.write(body);
+        }, false);
+    }
+
+    /**
+     * Replaces the contents of this storage's file with the address book in the json file at {@code jsonFilePath},
+     * including any changes journaled next to it by a {@link JournaledAddressBookStorage}.
+     *
+     * @throws DataLoadingException if the json file could not be loaded.
+     * @throws IOException if the binary file could not be written.
+     */
+    public void importFromJson(Path jsonFilePath) throws DataLoadingException, IOException {
+        requireNonNull(jsonFilePath);
+        Optional<ReadOnlyAddressBook> addressBook =
+                new JournaledAddressBookStorage(jsonFilePath, Long.MAX_VALUE, Runnable::run).readAddressBook();
+        if (addressBook.isPresent()) {
+            saveAddressBook(addressBook.get());
+        }
+    }
+
+    /**
+     * Returns a read-only view of the address book in this storage's file that decodes recruits only as they are
+     * accessed, or {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if the file could not be mapped or fails verification.
+     */
+    public Optional<MappedAddressBook> readMappedAddressBook() throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(MappedAddressBook.open(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error mapping binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Writes the address book in this storage's file to the json file at {@code jsonFilePath}.
+     * Recruits are decoded and written one at a time, so the address book is never held in memory as a whole.
+     *
+     * @throws DataLoadingException if this storage's file could not be loaded.
+     * @throws IOException if the json file could not be written.
+     */
+    public void exportToJson(Path jsonFilePath) throws DataLoadingException, IOException {
+        requireNonNull(jsonFilePath);
+        Optional<MappedAddressBook> addressBook = readMappedAddressBook();
+        if (addressBook.isEmpty()) {
+            return;
+        }
+
+        try {
+            new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook.get());
+        } catch (IllegalArgumentException iae) {
+            // thrown while decoding a recruit whose values do not meet their constraints
+            throw new DataLoadingException(new IllegalValueException(iae.getMessage()));
+        }
+    }
+
+    private static byte[] encodeBody(List<Recruit> recruits) throws IOException {
+        Map<String, Integer> tagIndices = new LinkedHashMap<>();
+        for (Recruit recruit : recruits) {
+            for (Tag tag : recruit.getTags()) {
+                tagIndices.putIfAbsent(tag.tagName, tagIndices.size());
+            }
+        }
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(body);
+        output.writeInt(tagIndices.size());
+        for (String tagName : tagIndices.keySet()) {
+            writeString(output, tagName);
+        }
+
+        for (Recruit recruit : recruits) {
+            output.writeLong(recruit.getID().getMostSignificantBits());
+            output.writeLong(recruit.getID().getLeastSignificantBits());
+            writeStrings(output, recruit.getNames(), name -> name.fullName);
+            writeStrings(output, recruit.getPhones(), phone -> phone.value);
+            writeStrings(output, recruit.getEmails(), email -> email.value);
+            writeStrings(output, recruit.getAddresses(), address -> address.value);
+            output.writeInt(recruit.getTags().size());
+            for (Tag tag : recruit.getTags()) {
+                output.writeInt(tagIndices.get(tag.tagName));
+            }
+        }
+        output.flush();
+        return body.toByteArray();
+    }
+
+    private static <T> void writeStrings(DataOutputStream output, Collection<T> values,
+            Function<T, String> toValue) throws IOException {
+        output.writeInt(values.size());
+        for (T value : values) {
+            writeString(output, toValue.apply(value));
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Decodes the address book in {@code buffer}, verifying its header and checksum first.
+     */
+    static AddressBook decode(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            int recruitCount = readHeader(buffer);
+            Tag[] tags = readTagDictionary(buffer);
+
+            List<Recruit> recruits = new ArrayList<>(recruitCount);
+            Set<UUID> ids = new HashSet<>();
+            for (int i = 0; i < recruitCount; i++) {
+                Recruit recruit = readRecruit(buffer, tags);
+                if (!ids.add(recruit.getID())) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_RECRUIT);
+                }
+                recruits.add(recruit);
+            }
+            if (buffer.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setRecruits(recruits);
+            return addressBook;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        } catch (IllegalArgumentException iae) {
+            // thrown by the model constructors when a value does not meet its constraints
+            throw new IllegalValueException(iae.getMessage());
+        }
+    }
+
+    /**
+     * Verifies the header of the file in {@code buffer} and the checksum of its body, leaving {@code buffer}
+     * positioned at the start of the body.
+     *
+     * @return the number of recruits in the file.
+     */
+    static int readHeader(ByteBuffer buffer) throws IllegalValueException {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IllegalValueException("Not a binary address book file");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IllegalValueException("Unsupported binary address book version " + version);
+        }
+        int recruitCount = buffer.getInt();
+        long expectedChecksum = buffer.getLong();
+
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.duplicate());
+        if (checksum.getValue() != expectedChecksum || recruitCount < 0) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return recruitCount;
+    }
+
+    /**
+     * Reads the tag dictionary that {@code buffer} is positioned at.
+     */
+    static Tag[] readTagDictionary(ByteBuffer buffer) {
+        Tag[] tags = new Tag[readCount(buffer)];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = Tag.of(readString(buffer));
+        }
+        return tags;
+    }
+
+    /**
+     * Advances {@code buffer} past the recruit record it is positioned at without decoding it, checking only that
+     * its tags are in a dictionary of {@code tagDictionarySize} tags.
+     */
+    static void skipRecruit(ByteBuffer buffer, int tagDictionarySize) {
+        buffer.position(buffer.position() + Long.BYTES * 2);
+        for (int list = 0; list < 4; list++) {
+            int count = readCount(buffer);
+            for (int i = 0; i < count; i++) {
+                int length = readCount(buffer);
+                buffer.position(buffer.position() + length);
+            }
+        }
+        int tagCount = readCount(buffer);
+        for (int i = 0; i < tagCount; i++) {
+            int tagIndex = buffer.getInt();
+            if (tagIndex < 0 || tagIndex >= tagDictionarySize) {
+                throw new BufferUnderflowException();
+            }
+        }
+    }
+
+    /**
+     * Decodes the recruit record that {@code buffer} is positioned at.
+     *
+     * @throws IllegalArgumentException if a value in the record does not meet its constraints.
+     */
+    static Recruit readRecruit(ByteBuffer buffer, Tag[] tags) {
+        UUID id = new UUID(buffer.getLong(), buffer.getLong());
+        List<Name> names = readStrings(buffer, Name::new);
+        List<Phone> phones = readStrings(buffer, Phone::new);
+        List<Email> emails = readStrings(buffer, Email::new);
+        List<Address> addresses = readStrings(buffer, Address::of);
+
+        int tagCount = readCount(buffer);
+        Set<Tag> recruitTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            recruitTags.add(tags[buffer.getInt()]);
+        }
+        return new Recruit(id, names, phones, emails, addresses, recruitTags);
+    }
+
+    private static <T> List<T> readStrings(ByteBuffer buffer, Function<String, T> toValue) {
+        int count = readCount(buffer);
+        List<T> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(toValue.apply(readString(buffer)));
+        }
+        return values;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[readCount(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a count or length, which cannot be negative or exceed the bytes left in {@code buffer}.
+     */
+    private static int readCount(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,548 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.recruit.Recruit;
+import seedu.address.model.recruit.RecruitSortOrder;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ *
+ * The snapshot has the same format as the file of {@link JsonAddressBookStorage}. Instead of rewriting the snapshot,
+ * each save appends one json record per added, edited or deleted recruit to a journal file next to it. Once the
+ * journal grows past a size threshold, it is rotated out and compacted into a new snapshot in the background.
+ * Reading the address book loads the snapshot and replays any rotated journal followed by the live journal.
+ *
+ * Journal records do not say where a recruit goes in the list: a put recruit replaces the recruit with the same id in
+ * place, or is appended. While the recruits are kept in a sort order, the journal records that order instead, and the
+ * recruits are sorted in it once replayed, so adding or editing a recruit of a sorted address book is still one
+ * record. Any other reordering, e.g. keeping the sorted order after the sort order is cleared, rewrites the snapshot.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String COMPACTING_JOURNAL_SUFFIX = ".journal.compacting";
+    private static final String OPERATION_FIELD = "op";
+    private static final String PUT_OPERATION = "put";
+    private static final String DELETE_OPERATION = "delete";
+    private static final String SORT_OPERATION = "sort";
+    private static final String SORT_ORDER_FIELD = "sortOrder";
+    private static final String RECRUIT_FIELD = "recruit";
+    private static final String ID_FIELD = "id";
+
+    private final Path filePath;
+    private final long compactionThresholdBytes;
+    private final Executor compactionExecutor;
+    // Guards writes of the snapshot and deletions of the journals, which compactions do off this storage's monitor.
+    private final Object snapshotLock = new Object();
+    // Counts the snapshots written by saves, so that a compaction started before one does not overwrite it.
+    private final AtomicLong snapshotGeneration = new AtomicLong();
+
+    // The fields below are guarded by this storage's monitor.
+    // The recruits last persisted to filePath, in journal order, or null if the contents of filePath are not known.
+    private LinkedHashMap<UUID, Recruit> persistedRecruits;
+    // The order the persisted recruits are kept sorted in, or null if they are kept in journal order.
+    private RecruitSortOrder persistedSortOrder;
+    private boolean isCompacting;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} for {@code filePath} that compacts on a background daemon
+     * thread once the journal exceeds {@link #DEFAULT_COMPACTION_THRESHOLD_BYTES}.
+     */
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD_BYTES, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-compactor");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} for {@code filePath}.
+     *
+     * @param compactionThresholdBytes journal size beyond which the journal is compacted into the snapshot.
+     * @param compactionExecutor executor that compactions run on.
+     */
+    public JournaledAddressBookStorage(Path filePath, long compactionThresholdBytes, Executor compactionExecutor) {
+        requireNonNull(filePath);
+        requireNonNull(compactionExecutor);
+        this.filePath = filePath;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+        this.compactionExecutor = compactionExecutor;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that accompanies the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    /**
+     * Returns the time the address book at {@code snapshotPath} was last modified, by a save to either the snapshot
+     * or its journals, or {@code Optional.empty()} if none of them exist.
+     */
+    public static Optional<FileTime> getLastModifiedTime(Path snapshotPath) throws IOException {
+        Optional<FileTime> lastModifiedTime = Optional.empty();
+        for (Path path : List.of(snapshotPath, getJournalFilePath(snapshotPath),
+                getCompactingJournalFilePath(snapshotPath))) {
+            if (Files.exists(path)) {
+                FileTime modifiedTime = Files.getLastModifiedTime(path);
+                if (lastModifiedTime.isEmpty() || modifiedTime.compareTo(lastModifiedTime.get()) > 0) {
+                    lastModifiedTime = Optional.of(modifiedTime);
+                }
+            }
+        }
+        return lastModifiedTime;
+    }
+
+    /**
+     * Deletes the journals of the snapshot at {@code snapshotPath}, e.g. after the snapshot is replaced by other
+     * means than this class.
+     */
+    public static void deleteJournals(Path snapshotPath) throws IOException {
+        Files.deleteIfExists(getCompactingJournalFilePath(snapshotPath));
+        Files.deleteIfExists(getJournalFilePath(snapshotPath));
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Recovers the address book from the snapshot and journals at {@code filePath}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path journalPath = getJournalFilePath(filePath);
+        Path compactingJournalPath = getCompactingJournalFilePath(filePath);
+        if (!Files.exists(filePath) && !Files.exists(journalPath) && !Files.exists(compactingJournalPath)) {
+            return Optional.empty();
+        }
+
+        try {
+            JournalState state = new JournalState();
+            if (Files.exists(filePath)) {
+                for (Recruit recruit : JsonAddressBookStreamReader.read(filePath).getRecruitList()) {
+                    state.recruits.put(recruit.getID(), recruit);
+                }
+            }
+
+            // Each journal is replayed up to its own torn record, if any.
+            boolean isCompactingJournalIntact = replayJournal(compactingJournalPath, state);
+            boolean isJournalIntact = replayJournal(journalPath, state);
+
+            List<Recruit> recruits = new ArrayList<>(state.recruits.values());
+            AddressBook addressBook = new AddressBook();
+            addressBook.setRecruits(state.sortOrder == null ? recruits : state.sortOrder.sort(recruits));
+            if (!isCompactingJournalIntact || !isJournalIntact || Files.exists(compactingJournalPath)) {
+                // Fold the journals into the snapshot now, so that no further records are appended after a torn one.
+                // The journals are only deleted once the new snapshot is on disk.
+                snapshotGeneration.incrementAndGet();
+                synchronized (snapshotLock) {
+                    writeSnapshot(addressBook, filePath);
+                    Files.deleteIfExists(compactingJournalPath);
+                    Files.deleteIfExists(journalPath);
+                }
+            }
+
+            if (filePath.equals(this.filePath)) {
+                persistedRecruits = state.recruits;
+                persistedSortOrder = state.sortOrder;
+            }
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journaled address book " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only changes since the last save to this storage's own file path are written; saves to any other path, or
+     * before the contents of the file path are known, write a full snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        RecruitSortOrder sortOrder = addressBook.getSortOrder().orElse(null);
+        if (persistedRecruits == null || (persistedSortOrder != null && sortOrder == null)) {
+            saveSnapshotAndResetJournal(addressBook);
+            return;
+        }
+
+        List<Recruit> recruitsToPut = new ArrayList<>();
+        List<UUID> idsToDelete = new ArrayList<>();
+        diffAgainstPersisted(addressBook, recruitsToPut, idsToDelete);
+        if (sortOrder == null && !isInJournalOrder(addressBook, recruitsToPut, idsToDelete)) {
+            saveSnapshotAndResetJournal(addressBook);
+            return;
+        }
+        boolean isSortOrderChanged = !Objects.equals(sortOrder, persistedSortOrder);
+        if (recruitsToPut.isEmpty() && idsToDelete.isEmpty() && !isSortOrderChanged) {
+            return;
+        }
+
+        Path journalPath = getJournalFilePath(filePath);
+        try {
+            appendToJournal(journalPath, sortOrder, recruitsToPut, idsToDelete);
+        } catch (IOException ioe) {
+            // The journal may end in a torn record that could not be truncated, so write a full snapshot next time.
+            persistedRecruits = null;
+            throw ioe;
+        }
+        applyRecords(persistedRecruits, recruitsToPut, idsToDelete);
+        persistedSortOrder = sortOrder;
+
+        if (!isCompacting && Files.size(journalPath) > compactionThresholdBytes) {
+            startCompaction(addressBook, journalPath);
+        }
+    }
+
+    /**
+     * Computes the journal records that turn the persisted recruits into those of {@code addressBook}.
+     */
+    private void diffAgainstPersisted(ReadOnlyAddressBook addressBook, List<Recruit> recruitsToPut,
+            List<UUID> idsToDelete) {
+        Set<UUID> ids = new HashSet<>();
+        for (Recruit recruit : addressBook.getRecruitList()) {
+            ids.add(recruit.getID());
+            Recruit persisted = persistedRecruits.get(recruit.getID());
+            if (persisted == null || (persisted != recruit && !persisted.equals(recruit))) {
+                recruitsToPut.add(recruit);
+            }
+        }
+        for (UUID persistedId : persistedRecruits.keySet()) {
+            if (!ids.contains(persistedId)) {
+                idsToDelete.add(persistedId);
+            }
+        }
+    }
+
+    /**
+     * Returns true if applying the given records to the persisted recruits would reproduce the order of the recruits
+     * in {@code addressBook}, i.e. the recruits kept are in their persisted order, followed by the new recruits.
+     */
+    private boolean isInJournalOrder(ReadOnlyAddressBook addressBook, List<Recruit> recruitsToPut,
+            List<UUID> idsToDelete) {
+        Set<UUID> deletedIds = new HashSet<>(idsToDelete);
+        Iterator<UUID> keptOrder = persistedRecruits.keySet().stream()
+                .filter(id -> !deletedIds.contains(id))
+                .iterator();
+        Iterator<UUID> addedOrder = recruitsToPut.stream()
+                .map(Recruit::getID)
+                .filter(id -> !persistedRecruits.containsKey(id))
+                .iterator();
+        for (Recruit recruit : addressBook.getRecruitList()) {
+            UUID expectedId = keptOrder.hasNext() ? keptOrder.next() : addedOrder.hasNext() ? addedOrder.next() : null;
+            if (!recruit.getID().equals(expectedId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes {@code addressBook} as the snapshot and deletes both journals, which it supersedes.
+     */
+    private void saveSnapshotAndResetJournal(ReadOnlyAddressBook addressBook) throws IOException {
+        snapshotGeneration.incrementAndGet();
+        synchronized (snapshotLock) {
+            writeSnapshot(addressBook, filePath);
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            Files.deleteIfExists(getCompactingJournalFilePath(filePath));
+        }
+
+        persistedRecruits = new LinkedHashMap<>();
+        for (Recruit recruit : addressBook.getRecruitList()) {
+            persistedRecruits.put(recruit.getID(), recruit);
+        }
+        persistedSortOrder = addressBook.getSortOrder().orElse(null);
+    }
+
+    /**
+     * Rotates the live journal out and compacts the persisted recruits into a new snapshot in the background.
+     * If the journal rotated out by an earlier compaction is still there because that compaction failed, both
+     * journals are folded into a snapshot of {@code addressBook} instead.
+     */
+    private void startCompaction(ReadOnlyAddressBook addressBook, Path journalPath) throws IOException {
+        Path compactingJournalPath = getCompactingJournalFilePath(filePath);
+        if (Files.exists(compactingJournalPath)) {
+            try {
+                saveSnapshotAndResetJournal(addressBook);
+            } catch (IOException ioe) {
+                // The changes are already in the journal, so the save itself has not failed.
+                logger.warning("Failed to fold journals into " + filePath + " " + StringUtil.getDetails(ioe));
+            }
+            return;
+        }
+
+        Files.move(journalPath, compactingJournalPath);
+        isCompacting = true;
+
+        List<Recruit> recruits = new ArrayList<>(persistedRecruits.values());
+        RecruitSortOrder sortOrder = persistedSortOrder;
+        long generation = snapshotGeneration.get();
+        compactionExecutor.execute(() -> compact(recruits, sortOrder, generation, compactingJournalPath));
+    }
+
+    private void compact(List<Recruit> recruits, RecruitSortOrder sortOrder, long generation,
+            Path compactingJournalPath) {
+        try {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setRecruits(sortOrder == null ? recruits : sortOrder.sort(recruits));
+            synchronized (snapshotLock) {
+                if (snapshotGeneration.get() != generation) {
+                    // A save has written, or is about to write, a newer snapshot that also covers the rotated journal.
+                    logger.fine("Skipped compaction superseded by a newer snapshot of " + filePath);
+                    return;
+                }
+                writeSnapshot(addressBook, filePath);
+                Files.deleteIfExists(compactingJournalPath);
+            }
+            logger.fine("Compacted journal into " + filePath);
+        } catch (IOException ioe) {
+            // The rotated journal is kept, so the data can still be recovered from it on the next read.
+            logger.warning("Failed to compact journal into " + filePath + " " + StringUtil.getDetails(ioe));
+        } finally {
+            synchronized (this) {
+                isCompacting = false;
+            }
+        }
+    }
+
+    /**
+     * Atomically replaces the snapshot at {@code snapshotPath}, so that a failed write never leaves a partially
+     * written snapshot behind.
+     */
+    private static void writeSnapshot(ReadOnlyAddressBook addressBook, Path snapshotPath) throws IOException {
+        FileUtil.writeAtomically(snapshotPath, outputStream ->
+                JsonAddressBookStreamWriter.write(addressBook, outputStream, true), false);
+    }
+
+    /**
+     * Appends one record per recruit to put and per id to delete to the journal, and forces them to disk.
+     * The records are preceded by a record of {@code sortOrder} if it has changed, or if the journal is new and the
+     * recruits are kept sorted.
+     * If the records cannot be appended, the journal is truncated back to its previous length where possible.
+     */
+    private void appendToJournal(Path journalPath, RecruitSortOrder sortOrder, List<Recruit> recruitsToPut,
+            List<UUID> idsToDelete) throws IOException {
+        try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE)) {
+            long previousLength = journal.size();
+            boolean isSortOrderRecorded = !Objects.equals(sortOrder, persistedSortOrder)
+                    || (previousLength == 0 && sortOrder != null);
+            ByteBuffer buffer = ByteBuffer.wrap(createRecords(isSortOrderRecorded, sortOrder, recruitsToPut,
+                    idsToDelete));
+            journal.position(previousLength);
+            try {
+                while (buffer.hasRemaining()) {
+                    journal.write(buffer);
+                }
+                journal.force(false);
+            } catch (IOException ioe) {
+                try {
+                    journal.truncate(previousLength);
+                    journal.force(false);
+                } catch (IOException truncateFailure) {
+                    ioe.addSuppressed(truncateFailure);
+                }
+                throw ioe;
+            }
+        }
+    }
+
+    private static byte[] createRecords(boolean isSortOrderRecorded, RecruitSortOrder sortOrder,
+            List<Recruit> recruitsToPut, List<UUID> idsToDelete) throws IOException {
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(records)) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            if (isSortOrderRecorded) {
+                generator.writeStartObject();
+                generator.writeStringField(OPERATION_FIELD, SORT_OPERATION);
+                generator.writeObjectField(SORT_ORDER_FIELD, sortOrder);
+                generator.writeEndObject();
+            }
+            for (UUID id : idsToDelete) {
+                generator.writeStartObject();
+                generator.writeStringField(OPERATION_FIELD, DELETE_OPERATION);
+                generator.writeStringField(ID_FIELD, id.toString());
+                generator.writeEndObject();
+            }
+            for (Recruit recruit : recruitsToPut) {
+                generator.writeStartObject();
+                generator.writeStringField(OPERATION_FIELD, PUT_OPERATION);
+                generator.writeFieldName(RECRUIT_FIELD);
+                JsonAddressBookStreamWriter.writeRecruit(generator, recruit);
+                generator.writeEndObject();
+            }
+            generator.writeRaw('\n');
+        }
+        return records.toByteArray();
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalPath}, if it exists, to {@code state}.
+     * Returns false if the journal ends in a record that could not be parsed, e.g. one torn by a crash mid-append;
+     * the records before it are still applied.
+     *
+     * @throws IllegalValueException if a record contains invalid recruit data.
+     */
+    private static boolean replayJournal(Path journalPath, JournalState state)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return true;
+        }
+
+        try (JsonParser parser = JsonUtil.createParser(journalPath)) {
+            while (parser.nextToken() != null) {
+                replayRecord(parser, state);
+            }
+        } catch (JsonProcessingException jpe) {
+            logger.warning("Ignoring unreadable journal records in " + journalPath + ": " + jpe.getMessage());
+            return false;
+        }
+        return true;
+    }
+
+    private static void replayRecord(JsonParser parser, JournalState state)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a journal record");
+        }
+
+        String operation = null;
+        Recruit recruit = null;
+        UUID id = null;
+        RecruitSortOrder sortOrder = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (OPERATION_FIELD.equals(fieldName)) {
+                operation = parser.getValueAsString();
+            } else if (RECRUIT_FIELD.equals(fieldName)) {
+                recruit = parser.readValueAs(JsonAdaptedRecruit.class).toModelType();
+            } else if (ID_FIELD.equals(fieldName)) {
+                id = parseId(parser, parser.getValueAsString());
+            } else if (SORT_ORDER_FIELD.equals(fieldName)) {
+                sortOrder = parser.readValueAs(RecruitSortOrder.class);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (PUT_OPERATION.equals(operation) && recruit != null) {
+            applyRecords(state.recruits, List.of(recruit), List.of());
+        } else if (DELETE_OPERATION.equals(operation) && id != null) {
+            applyRecords(state.recruits, List.of(), List.of(id));
+        } else if (SORT_OPERATION.equals(operation)) {
+            state.sortOrder = sortOrder;
+        } else {
+            throw new JsonParseException(parser, "Incomplete journal record");
+        }
+    }
+
+    private static UUID parseId(JsonParser parser, String id) throws JsonParseException {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new JsonParseException(parser, "Invalid recruit id in journal record");
+        }
+    }
+
+    /**
+     * Applies journal records to {@code recruits}: deleted ids are removed, and put recruits replace the recruit
+     * with the same id in place, or are appended if there is none.
+     */
+    private static void applyRecords(Map<UUID, Recruit> recruits, List<Recruit> recruitsToPut,
+            List<UUID> idsToDelete) {
+        for (UUID id : idsToDelete) {
+            recruits.remove(id);
+        }
+        for (Recruit recruit : recruitsToPut) {
+            recruits.put(recruit.getID(), recruit);
+        }
+    }
+
+    private static Path getCompactingJournalFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + COMPACTING_JOURNAL_SUFFIX);
+    }
+
+    /**
+     * The recruits, in journal order, and the sort order recovered from a snapshot and the journals replayed so far.
+     */
+    private static class JournalState {
+        private final LinkedHashMap<UUID, Recruit> recruits = new LinkedHashMap<>();
+        private RecruitSortOrder sortOrder;
+    }
+
+}
@@ -111,7 +111,7 @@ class JsonAdaptedRecruit {
         if (addresses.stream().anyMatch(a -> !Address.isValidAddress(a))) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final List<Address> modelAddresses = addresses.stream().map(Address::new).toList();
+        final List<Address> modelAddresses = addresses.stream().map(Address::of).toList();
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
         return new Recruit(modelId, modelNames, modelPhones, modelEmails, modelAddresses, modelTags);
@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.recruit.Recruit;
+
+/**
+ * Converts batches of {@code JsonAdaptedRecruit}s of an address book into the model's {@code Recruit}s.
+ *
+ * Large batches are split across a {@link ForkJoinPool}, so that recruits are validated and constructed
+ * concurrently. Errors are reported as if the recruits were converted one at a time in order: the error thrown is
+ * that of the first recruit, across every batch given to this decoder, that fails to convert or has the same id as
+ * an earlier recruit.
+ */
+class JsonAdaptedRecruitDecoder {
+
+    static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private final ForkJoinPool pool;
+    private final Set<UUID> seenIds = new HashSet<>();
+
+    /**
+     * Creates a decoder that converts large batches in {@code pool}.
+     */
+    JsonAdaptedRecruitDecoder(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Creates a decoder that converts large batches in the common pool.
+     */
+    JsonAdaptedRecruitDecoder() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the recruits of {@code batch}, in order.
+     *
+     * @throws IllegalValueException if a recruit violates data constraints, or has the same id as an earlier one.
+     */
+    List<Recruit> decode(List<JsonAdaptedRecruit> batch) throws IllegalValueException {
+        DecodeTask task = new DecodeTask(batch, 0, batch.size(), new Recruit[batch.size()],
+                new Exception[batch.size()], new AtomicInteger(batch.size()));
+        if (batch.size() <= SEQUENTIAL_THRESHOLD) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+
+        List<Recruit> recruits = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            throwIfFailed(task.failures[i]);
+            Recruit recruit = task.recruits[i];
+            if (!seenIds.add(recruit.getID())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_RECRUIT);
+            }
+            recruits.add(recruit);
+        }
+        return recruits;
+    }
+
+    private static void throwIfFailed(Exception failure) throws IllegalValueException {
+        if (failure instanceof IllegalValueException) {
+            throw (IllegalValueException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+    }
+
+    /**
+     * Converts a range of a batch, splitting it in halves until the halves are small enough to convert in turn.
+     * Once a recruit has failed to convert, recruits after it are skipped, since their results cannot be reported.
+     */
+    private static class DecodeTask extends RecursiveAction {
+
+        private final List<JsonAdaptedRecruit> batch;
+        private final int start;
+        private final int end;
+        private final Recruit[] recruits;
+        private final Exception[] failures;
+        private final AtomicInteger firstFailure;
+
+        private DecodeTask(List<JsonAdaptedRecruit> batch, int start, int end, Recruit[] recruits,
+                Exception[] failures, AtomicInteger firstFailure) {
+            this.batch = batch;
+            this.start = start;
+            this.end = end;
+            this.recruits = recruits;
+            this.failures = failures;
+            this.firstFailure = firstFailure;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > SEQUENTIAL_THRESHOLD) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new DecodeTask(batch, start, middle, recruits, failures, firstFailure),
+                        new DecodeTask(batch, middle, end, recruits, failures, firstFailure));
+                return;
+            }
+
+            for (int i = start; i < end && i < firstFailure.get(); i++) {
+                try {
+                    recruits[i] = batch.get(i).toModelType();
+                } catch (IllegalValueException | RuntimeException e) {
+                    failures[i] = e;
+                    firstFailure.accumulateAndGet(i, Math::min);
+                }
+            }
+        }
+    }
+
+}
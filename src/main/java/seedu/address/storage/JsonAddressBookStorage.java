@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,7 +12,6 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -22,9 +22,28 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final boolean keepPreviousGeneration;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for {@code filePath}.
+     *
+     * @param isCompact whether saved files should omit pretty-printing whitespace.
+     * @param keepPreviousGeneration whether each save retains the file it replaces, to be loaded instead should the
+     *     file turn out to be unreadable.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, boolean keepPreviousGeneration) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.keepPreviousGeneration = keepPreviousGeneration;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,6 +57,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * Recruits are streamed from the file one at a time, so the whole document is never held in memory.
+     * The whole file is verified to be a valid address book before it is returned. If it is not, the previous
+     * generation of the file, if one was retained, is loaded instead.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,14 +67,29 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
+
+        try {
+            return Optional.of(readVerifiedAddressBook(filePath));
+        } catch (DataLoadingException e) {
+            Path previousGeneration = FileUtil.getPreviousGenerationPath(filePath);
+            if (!FileUtil.isFileExists(previousGeneration)) {
+                throw e;
+            }
+            logger.warning("Loading previous generation " + previousGeneration + " instead of " + filePath);
+            return Optional.of(readVerifiedAddressBook(previousGeneration));
+        }
+    }
 
+    private ReadOnlyAddressBook readVerifiedAddressBook(Path filePath) throws DataLoadingException {
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return JsonAddressBookStreamReader.read(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,6 +103,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Recruits are streamed to the file one at a time, so the whole document is never held in memory.
+     * The file is replaced atomically, so a failed or interrupted save leaves the previous content intact.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +112,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeAtomically(filePath, outputStream ->
+                JsonAddressBookStreamWriter.write(addressBook, outputStream, isCompact), keepPreviousGeneration);
     }
 
 }
@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.recruit.Recruit;
+
+/**
+ * Reads an {@code AddressBook} from a JSON file in chunks of recruits.
+ * Unlike {@link JsonSerializableAddressBook}, neither the file contents nor the full list of adapted recruits is
+ * held in memory; each chunk of recruits is converted in parallel as soon as it is read, and the converted recruits
+ * are inserted into the {@code AddressBook} all at once at the end.
+ */
+class JsonAddressBookStreamReader {
+
+    static final int CHUNK_SIZE = 4096;
+
+    private static final String RECRUITS_FIELD = "recruits";
+
+    /**
+     * Reads the address book stored in {@code filePath}.
+     * Assumes the file exists. The whole file is verified, so a file that was cut short or has trailing content
+     * is rejected rather than partially read.
+     *
+     * @throws IOException if the file could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (RECRUITS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    readRecruits(parser, addressBook);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT || parser.nextToken() != null) {
+                throw new JsonParseException(parser, "Expected the address book object to end the file");
+            }
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads every element of the recruits array that {@code parser} is positioned at into {@code addressBook}.
+     * Errors are reported in file order: if the array turns out to be malformed, the recruits read before the
+     * malformed part are still checked first.
+     */
+    private static void readRecruits(JsonParser parser, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        JsonAdaptedRecruitDecoder decoder = new JsonAdaptedRecruitDecoder();
+        List<Recruit> recruits = new ArrayList<>();
+        List<JsonAdaptedRecruit> chunk = new ArrayList<>(CHUNK_SIZE);
+        try {
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new JsonParseException(parser, "Unexpected end of recruits array");
+                }
+
+                chunk.add(parser.readValueAs(JsonAdaptedRecruit.class));
+                if (chunk.size() == CHUNK_SIZE) {
+                    recruits.addAll(decoder.decode(chunk));
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            decoder.decode(chunk);
+            throw e;
+        }
+        recruits.addAll(decoder.decode(chunk));
+        addressBook.setRecruits(recruits);
+    }
+
+}
@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.recruit.Recruit;
+
+/**
+ * Writes an address book to a JSON file one recruit at a time.
+ * Unlike {@link JsonSerializableAddressBook}, neither an adapted copy of every recruit nor the serialized document
+ * is built in memory; each recruit is encoded straight into the generator's output buffer.
+ * The output has the same structure as {@link JsonSerializableAddressBook}, and can optionally be compact.
+ */
+class JsonAddressBookStreamWriter {
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, overwriting the file if it exists.
+     *
+     * @param isCompact whether to omit the indentation and line breaks of pretty-printed output.
+     * @throws IOException if there was an error writing to the file.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact) throws IOException {
+        write(addressBook, Files.newOutputStream(filePath), isCompact);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code outputStream}, closing the stream once done.
+     *
+     * @param isCompact whether to omit the indentation and line breaks of pretty-printed output.
+     * @throws IOException if there was an error writing to the stream.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream outputStream, boolean isCompact)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(outputStream)) {
+            if (!isCompact) {
+                generator.useDefaultPrettyPrinter();
+            }
+
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("recruits");
+            for (Recruit recruit : addressBook.getRecruitList()) {
+                writeRecruit(generator, recruit);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes {@code recruit} as an object with the fields of {@link JsonAdaptedRecruit}.
+     */
+    static void writeRecruit(JsonGenerator generator, Recruit recruit) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", recruit.getID().toString());
+        writeArrayField(generator, "names", recruit.getNames(), name -> name.fullName);
+        writeArrayField(generator, "phones", recruit.getPhones(), phone -> phone.value);
+        writeArrayField(generator, "emails", recruit.getEmails(), email -> email.value);
+        writeArrayField(generator, "addresses", recruit.getAddresses(), address -> address.value);
+        writeArrayField(generator, "tags", recruit.getTags(), tag -> tag.tagName);
+        generator.writeEndObject();
+    }
+
+    private static <T> void writeArrayField(JsonGenerator generator, String fieldName, Collection<T> values,
+            Function<T, String> toJsonValue) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (T value : values) {
+            generator.writeString(toJsonValue.apply(value));
+        }
+        generator.writeEndArray();
+    }
+
+}
@@ -42,18 +42,15 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Recruits are converted in parallel, and added to the address book all at once.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated. The violation reported is that of
+     *     the first recruit in the list to violate any.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        List<Recruit> modelRecruits = new JsonAdaptedRecruitDecoder().decode(recruits);
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedRecruit jsonAdaptedRecruit : recruits) {
-            Recruit recruit = jsonAdaptedRecruit.toModelType();
-            if (addressBook.hasRecruit(recruit)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_RECRUIT);
-            }
-            addressBook.addRecruit(recruit);
-        }
+        addressBook.setRecruits(modelRecruits);
         return addressBook;
     }
 
@@ -0,0 +1,196 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.recruit.Recruit;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A read-only address book backed by a memory-mapped file in the format of {@link BinaryAddressBookStorage}.
+ *
+ * Opening the file only verifies its checksum and indexes the offset of every recruit record, by position and by
+ * id. A {@code Recruit} is decoded from its record only when its element of {@link #getRecruitList()} is accessed,
+ * and only the most recently accessed recruits are kept on the heap. Since records are decoded lazily, accessing a
+ * record whose values do not meet their constraints throws an {@code IllegalArgumentException}.
+ *
+ * The file must not be modified in place while it is mapped; replacing it atomically is safe.
+ */
+public class MappedAddressBook implements ReadOnlyAddressBook {
+
+    static final int DEFAULT_CACHE_CAPACITY = 4096;
+
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final ByteBuffer buffer;
+    private final Tag[] tags;
+    private final int[] recordOffsets;
+
+    // Open-addressed hash table from recruit id to record index + 1, where 0 marks an empty slot.
+    private final long[] slotMostSignificantBits;
+    private final long[] slotLeastSignificantBits;
+    private final int[] slotRecords;
+
+    private final Map<Integer, Recruit> cache;
+    private final ObservableList<Recruit> recruitList = new RecruitListView();
+
+    private MappedAddressBook(ByteBuffer buffer, Tag[] tags, int recruitCount, int cacheCapacity) {
+        this.buffer = buffer;
+        this.tags = tags;
+        this.recordOffsets = new int[recruitCount];
+
+        int capacity = 1;
+        while (capacity < recruitCount * 2) {
+            capacity <<= 1;
+        }
+        slotMostSignificantBits = new long[capacity];
+        slotLeastSignificantBits = new long[capacity];
+        slotRecords = new int[capacity];
+
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Recruit> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+    }
+
+    /**
+     * Maps the binary address book file at {@code filePath} and indexes its records.
+     *
+     * @throws IOException if the file could not be mapped.
+     * @throws IllegalValueException if the file is not a valid binary address book file, or has duplicate recruits.
+     */
+    public static MappedAddressBook open(Path filePath) throws IOException, IllegalValueException {
+        return open(filePath, DEFAULT_CACHE_CAPACITY);
+    }
+
+    static MappedAddressBook open(Path filePath, int cacheCapacity) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            int recruitCount = BinaryAddressBookStorage.readHeader(buffer);
+            Tag[] tags = BinaryAddressBookStorage.readTagDictionary(buffer);
+            MappedAddressBook addressBook = new MappedAddressBook(buffer.asReadOnlyBuffer(), tags, recruitCount,
+                    cacheCapacity);
+            for (int i = 0; i < recruitCount; i++) {
+                addressBook.indexRecord(i, buffer);
+                BinaryAddressBookStorage.skipRecruit(buffer, tags.length);
+            }
+            if (buffer.hasRemaining()) {
+                throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+            }
+            return addressBook;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            // includes positions past the end of the file, and tag names that do not meet their constraints
+            throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+        }
+    }
+
+    /**
+     * Records that the record at the current position of {@code buffer} is the {@code index}-th recruit.
+     */
+    private void indexRecord(int index, ByteBuffer buffer) throws IllegalValueException {
+        int offset = buffer.position();
+        long mostSignificantBits = buffer.getLong(offset);
+        long leastSignificantBits = buffer.getLong(offset + Long.BYTES);
+        recordOffsets[index] = offset;
+
+        int slot = findSlot(mostSignificantBits, leastSignificantBits);
+        if (slotRecords[slot] != 0) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_RECRUIT);
+        }
+        slotMostSignificantBits[slot] = mostSignificantBits;
+        slotLeastSignificantBits[slot] = leastSignificantBits;
+        slotRecords[slot] = index + 1;
+    }
+
+    /**
+     * Returns the slot holding the given id, or the empty slot it would be placed in.
+     */
+    private int findSlot(long mostSignificantBits, long leastSignificantBits) {
+        int mask = slotRecords.length - 1;
+        long hash = (mostSignificantBits ^ leastSignificantBits) * HASH_MULTIPLIER;
+        int slot = (int) (hash >>> 32) & mask;
+        while (slotRecords[slot] != 0 && (slotMostSignificantBits[slot] != mostSignificantBits
+                || slotLeastSignificantBits[slot] != leastSignificantBits)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the recruit with the given {@code id}, decoding it if needed.
+     */
+    public Optional<Recruit> getRecruit(UUID id) {
+        requireNonNull(id);
+        int record = slotRecords[findSlot(id.getMostSignificantBits(), id.getLeastSignificantBits())];
+        return record == 0 ? Optional.empty() : Optional.of(recruitList.get(record - 1));
+    }
+
+    /**
+     * Returns the number of recruits currently decoded and kept on the heap.
+     */
+    synchronized int getCachedRecruitCount() {
+        return cache.size();
+    }
+
+    private synchronized Recruit materialise(int index) {
+        Recruit recruit = cache.get(index);
+        if (recruit == null) {
+            ByteBuffer record = buffer.duplicate();
+            record.position(recordOffsets[index]);
+            recruit = BinaryAddressBookStorage.readRecruit(record, tags);
+            cache.put(index, recruit);
+        }
+        return recruit;
+    }
+
+    @Override
+    public ObservableList<Recruit> getRecruitList() {
+        return recruitList;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getCanonicalName() + "{recruits=" + recordOffsets.length + "}";
+    }
+
+    /**
+     * An unmodifiable list view of the recruits that decodes each element when it is accessed.
+     */
+    private class RecruitListView extends ObservableListBase<Recruit> {
+
+        @Override
+        public Recruit get(int index) {
+            if (index < 0 || index >= recordOffsets.length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + recordOffsets.length);
+            }
+            return materialise(index);
+        }
+
+        @Override
+        public int size() {
+            return recordOffsets.length;
+        }
+    }
+
+}
@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvReader;
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.recruit.Recruit;
+
+/**
+ * Exports recruits to a CSV or JSON Lines file one recruit at a time, so that neither a copy of the recruits nor the
+ * exported document is built in memory, however many recruits there are.
+ *
+ * A CSV file has the columns read by the {@code import} command, with every name, phone, email, address and tag of
+ * each recruit, as the values of a field split by {@link CsvReader#splitValues(String)}. A JSON Lines file has one
+ * object per line with every field of the recruit, in the format of the data file. The file is replaced atomically,
+ * so a failed export leaves any previous export untouched.
+ */
+public class RecruitExporter {
+
+    /**
+     * The formats recruits can be exported in.
+     */
+    public enum Format {
+        CSV(".csv"),
+        JSON_LINES(".jsonl");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Returns the format of {@code file}, given by its extension in any case.
+         */
+        public static Optional<Format> of(Path file) {
+            String fileName = file.getFileName() == null ? "" : file.getFileName().toString().toLowerCase(Locale.ROOT);
+            for (Format format : values()) {
+                if (fileName.endsWith(format.extension)) {
+                    return Optional.of(format);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    public static final List<String> CSV_HEADER = List.of("id", "name", "phone", "email", "address", "tags");
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(RecruitExporter.class);
+
+    /**
+     * Writes {@code recruits} to {@code file} in {@code format}, overwriting the file if it exists.
+     * {@code recruits} must not be modified while they are written.
+     *
+     * @throws IOException if there was an error writing to the file, in which case the file is left untouched.
+     */
+    public static Result export(Iterable<Recruit> recruits, Path file, Format format) throws IOException {
+        requireAllNonNull(recruits, file, format);
+        long startTime = System.nanoTime();
+        int[] rowCount = new int[1];
+        FileUtil.writeAtomically(file, outputStream -> {
+            rowCount[0] = format == Format.CSV
+                    ? writeCsv(recruits, outputStream)
+                    : writeJsonLines(recruits, outputStream);
+        }, false);
+
+        Result result = new Result(rowCount[0], System.nanoTime() - startTime);
+        logger.info(String.format("Exported %d recruits to %s at %.1f rows/s", result.getRowCount(), file,
+                result.getRowsPerSecond()));
+        return result;
+    }
+
+    private static int writeCsv(Iterable<Recruit> recruits, OutputStream outputStream) throws IOException {
+        int rowCount = 0;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
+                BUFFER_SIZE)) {
+            CsvWriter csvWriter = new CsvWriter(writer);
+            csvWriter.writeRecord(CSV_HEADER);
+            List<String> values = new ArrayList<>();
+            for (Recruit recruit : recruits) {
+                csvWriter.writeRecord(List.of(recruit.getID().toString(),
+                        joinValues(recruit.getNames(), name -> name.fullName, values),
+                        joinValues(recruit.getPhones(), phone -> phone.value, values),
+                        joinValues(recruit.getEmails(), email -> email.value, values),
+                        joinValues(recruit.getAddresses(), address -> address.value, values),
+                        joinValues(recruit.getSortedTags(), tag -> tag.tagName, values)));
+                rowCount++;
+            }
+        }
+        return rowCount;
+    }
+
+    /**
+     * Returns a CSV field holding the text of each of {@code values}, using {@code scratch} to collect them.
+     */
+    private static <T> String joinValues(List<T> values, Function<T, String> toText, List<String> scratch) {
+        scratch.clear();
+        for (T value : values) {
+            scratch.add(toText.apply(value));
+        }
+        return CsvWriter.joinValues(scratch);
+    }
+
+    private static int writeJsonLines(Iterable<Recruit> recruits, OutputStream outputStream) throws IOException {
+        int rowCount = 0;
+        try (JsonGenerator generator = JsonUtil.createGenerator(outputStream)) {
+            generator.setRootValueSeparator(null);
+            for (Recruit recruit : recruits) {
+                JsonAddressBookStreamWriter.writeRecruit(generator, recruit);
+                generator.writeRaw('\n');
+                rowCount++;
+            }
+        }
+        return rowCount;
+    }
+
+    /**
+     * The outcome of an export.
+     */
+    public static class Result {
+        private final int rowCount;
+        private final long elapsedNanos;
+
+        Result(int rowCount, long elapsedNanos) {
+            this.rowCount = rowCount;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        public double getRowsPerSecond() {
+            return elapsedNanos == 0 ? 0 : rowCount / (elapsedNanos / 1e9);
+        }
+    }
+
+}
@@ -0,0 +1,277 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.recruit.Recruit;
+import seedu.address.model.recruit.RecruitSortOrder;
+
+/**
+ * Saves snapshots of the address book through an {@link AddressBookStorage} on a background thread.
+ * Save requests that arrive while an earlier save is queued or in progress are coalesced, so that only the latest
+ * snapshot is written.
+ *
+ * A failed save is reported to the save status listener as soon as it happens, and is retried after a delay that
+ * doubles with every consecutive failure, from {@link #INITIAL_RETRY_DELAY_MILLIS} up to
+ * {@link #MAX_RETRY_DELAY_MILLIS}, unless a newer snapshot supersedes it first. The listener is told once a later
+ * save succeeds. {@link #flush()} also retries a failed save straight away.
+ *
+ * Save requests and flushes are expected to come from a single thread, i.e. the one that mutates the address book.
+ */
+public class WriteBehindSaver {
+
+    public static final long INITIAL_RETRY_DELAY_MILLIS = 1000;
+    public static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
+    /**
+     * Schedules a task to run once after a delay.
+     */
+    @FunctionalInterface
+    public interface RetryScheduler {
+        void schedule(Runnable task, long delayMillis);
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final AddressBookStorage storage;
+    private final Executor executor;
+    private final RetryScheduler retryScheduler;
+
+    // The fields below are guarded by this saver's monitor.
+    private ReadOnlyAddressBook pendingSnapshot;
+    private boolean isSaveScheduled;
+    private boolean isSaving;
+    private IOException saveFailure;
+    private boolean hasFailed;
+    private boolean isRetryScheduled;
+    private boolean isClosed;
+    private long retryDelayMillis = INITIAL_RETRY_DELAY_MILLIS;
+    private Consumer<Optional<IOException>> saveStatusListener = status -> { };
+
+    /**
+     * Creates a {@code WriteBehindSaver} that saves to {@code storage} on a dedicated daemon thread, which also
+     * retries failed saves.
+     */
+    public WriteBehindSaver(AddressBookStorage storage) {
+        this(storage, createSaverThread());
+    }
+
+    private WriteBehindSaver(AddressBookStorage storage, ScheduledExecutorService executor) {
+        this(storage, executor, (task, delayMillis) -> executor.schedule(task, delayMillis, TimeUnit.MILLISECONDS));
+    }
+
+    private static ScheduledExecutorService createSaverThread() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        return executor;
+    }
+
+    /**
+     * Creates a {@code WriteBehindSaver} that saves to {@code storage} using {@code executor}.
+     * {@code executor} must not run two tasks concurrently. A failed save is only retried by the next save request
+     * or flush.
+     */
+    public WriteBehindSaver(AddressBookStorage storage, Executor executor) {
+        this(storage, executor, null);
+    }
+
+    /**
+     * Creates a {@code WriteBehindSaver} that saves to {@code storage} using {@code executor}, and schedules retries
+     * of failed saves through {@code retryScheduler}, or not at all if it is null.
+     * {@code executor} must not run two tasks concurrently.
+     */
+    public WriteBehindSaver(AddressBookStorage storage, Executor executor, RetryScheduler retryScheduler) {
+        requireNonNull(storage);
+        requireNonNull(executor);
+        this.storage = storage;
+        this.executor = executor;
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Sets the listener told about the outcome of saves: it is called with the failure after every failed save, and
+     * with an empty {@code Optional} after the first successful save that follows a failure.
+     * The listener is called on the thread that saved.
+     */
+    public synchronized void setSaveStatusListener(Consumer<Optional<IOException>> saveStatusListener) {
+        requireNonNull(saveStatusListener);
+        this.saveStatusListener = saveStatusListener;
+    }
+
+    /**
+     * Requests that the current contents of {@code addressBook} be saved.
+     * Only a shallow copy of the recruit list is taken on the calling thread; serialisation and writing happen
+     * on the background thread.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        ObservableList<Recruit> recruits = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getRecruitList()));
+        Optional<RecruitSortOrder> sortOrder = addressBook.getSortOrder();
+        ReadOnlyAddressBook snapshot = new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Recruit> getRecruitList() {
+                return recruits;
+            }
+
+            @Override
+            public Optional<RecruitSortOrder> getSortOrder() {
+                return sortOrder;
+            }
+        };
+
+        synchronized (this) {
+            pendingSnapshot = snapshot;
+            if (isSaveScheduled) {
+                return;
+            }
+            isSaveScheduled = true;
+        }
+        executor.execute(this::savePendingSnapshot);
+    }
+
+    /**
+     * Blocks until every requested snapshot has been saved, retrying the latest snapshot if its save failed.
+     *
+     * @throws IOException if the latest snapshot could not be saved.
+     */
+    public void flush() throws IOException {
+        synchronized (this) {
+            while (isSaveScheduled || isSaving) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for address book to be saved");
+                }
+            }
+        }
+        savePendingSnapshot();
+        throwIfSaveFailed();
+    }
+
+    /**
+     * Throws the failure of the most recent save, if it failed. The failure is cleared once thrown, but it is still
+     * retried.
+     */
+    public synchronized void throwIfSaveFailed() throws IOException {
+        if (saveFailure != null) {
+            IOException failure = saveFailure;
+            saveFailure = null;
+            throw failure;
+        }
+    }
+
+    /**
+     * Flushes all requested snapshots, then stops the background thread if this saver created it.
+     *
+     * @throws IOException if the latest snapshot could not be saved.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            synchronized (this) {
+                isClosed = true;
+            }
+            if (executor instanceof ExecutorService) {
+                ((ExecutorService) executor).shutdown();
+            }
+        }
+    }
+
+    private void savePendingSnapshot() {
+        ReadOnlyAddressBook snapshot;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+            isSaveScheduled = false;
+            isSaving = snapshot != null;
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        Consumer<Optional<IOException>> listener;
+        Optional<IOException> status = null;
+        try {
+            storage.saveAddressBook(snapshot);
+            synchronized (this) {
+                if (hasFailed) {
+                    status = Optional.empty();
+                }
+                saveFailure = null;
+                hasFailed = false;
+                retryDelayMillis = INITIAL_RETRY_DELAY_MILLIS;
+            }
+        } catch (IOException ioe) {
+            logger.warning("Failed to save address book " + StringUtil.getDetails(ioe));
+            status = Optional.of(ioe);
+            synchronized (this) {
+                saveFailure = ioe;
+                hasFailed = true;
+                if (pendingSnapshot == null) {
+                    pendingSnapshot = snapshot;
+                }
+                scheduleRetry();
+            }
+        } finally {
+            synchronized (this) {
+                isSaving = false;
+                listener = saveStatusListener;
+                notifyAll();
+            }
+        }
+
+        if (status != null) {
+            listener.accept(status);
+        }
+    }
+
+    /**
+     * Schedules a retry of the failed snapshot, unless one is already scheduled.
+     */
+    private void scheduleRetry() {
+        assert Thread.holdsLock(this);
+        if (retryScheduler == null || isRetryScheduled) {
+            return;
+        }
+        isRetryScheduled = true;
+        long delayMillis = retryDelayMillis;
+        retryDelayMillis = Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+        logger.info("Retrying to save address book in " + delayMillis + " ms");
+        retryScheduler.schedule(this::retry, delayMillis);
+    }
+
+    private void retry() {
+        synchronized (this) {
+            isRetryScheduled = false;
+            if (isClosed || pendingSnapshot == null || isSaveScheduled || isSaving) {
+                // Saved, or about to be saved, by a newer request in the meantime.
+                return;
+            }
+            isSaveScheduled = true;
+        }
+        executor.execute(this::savePendingSnapshot);
+    }
+
+}
@@ -0,0 +1,46 @@
+package seedu.address.ui;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import javafx.scene.control.Label;
+
+/**
+ * A pool of {@code Label}s that are not in any scene graph, so that labels removed from one part of the UI can be
+ * reused by another instead of creating new ones.
+ * Only used on the JavaFX application thread.
+ */
+class LabelPool {
+
+    private final Deque<Label> freeLabels = new ArrayDeque<>();
+    private final int capacity;
+
+    /**
+     * Creates an empty pool that holds at most {@code capacity} free labels.
+     */
+    LabelPool(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns a label showing {@code text}, reusing a free label if there is one.
+     */
+    Label acquire(String text) {
+        Label label = freeLabels.poll();
+        if (label == null) {
+            return new Label(text);
+        }
+        label.setText(text);
+        return label;
+    }
+
+    /**
+     * Returns {@code label}, which must no longer be in a scene graph, to the pool, unless the pool is full.
+     */
+    void release(Label label) {
+        if (freeLabels.size() < capacity) {
+            freeLabels.push(label);
+        }
+    }
+
+}
@@ -1,20 +1,28 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.List;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.recruit.Recruit;
+import seedu.address.model.tag.Tag;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ *
+ * A card can be rebound to another recruit with {@link #setRecruit(Recruit, int)}, so that a list cell only loads
+ * the card's FXML once however many recruits it displays. The labels of the tags are reused across rebinds, and
+ * come from and go back to a {@link LabelPool} shared with other cards.
  */
 public class RecruitCard extends UiPart<Region> {
 
     private static final String FXML = "RecruitListCard.fxml";
+    private static final int DEFAULT_TAG_LABEL_POOL_CAPACITY = 16;
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -24,7 +32,8 @@ public class RecruitCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Recruit recruit;
+    private final LabelPool tagLabelPool;
+    private Recruit recruit;
 
     @FXML
     private HBox cardPane;
@@ -45,15 +54,55 @@ public class RecruitCard extends UiPart<Region> {
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public RecruitCard(Recruit recruit, int displayedIndex) {
+        this(new LabelPool(DEFAULT_TAG_LABEL_POOL_CAPACITY));
+        setRecruit(recruit, displayedIndex);
+    }
+
+    /**
+     * Creates a {@code RecruitCard} displaying no recruit yet, taking its tag labels from {@code tagLabelPool}.
+     */
+    RecruitCard(LabelPool tagLabelPool) {
         super(FXML);
-        this.recruit = recruit;
+        this.tagLabelPool = tagLabelPool;
+    }
+
+    public Recruit getRecruit() {
+        return recruit;
+    }
+
+    /**
+     * Displays {@code recruit} with the given index in this card.
+     * Rebinding a card to the recruit it already displays only updates the index.
+     */
+    public void setRecruit(Recruit recruit, int displayedIndex) {
         id.setText(displayedIndex + ". ");
+        if (recruit == this.recruit) {
+            return;
+        }
+
+        this.recruit = recruit;
         name.setText(recruit.getName().fullName);
         phone.setText(recruit.getPhone().value);
         address.setText(recruit.getAddress().value);
         email.setText(recruit.getEmail().value);
-        recruit.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        setTags(recruit.getSortedTags());
+    }
+
+    /**
+     * Shows {@code sortedTags} in the tag pane, relabelling the labels already in it.
+     */
+    private void setTags(List<Tag> sortedTags) {
+        ObservableList<Node> tagLabels = tags.getChildren();
+        while (tagLabels.size() > sortedTags.size()) {
+            tagLabelPool.release((Label) tagLabels.remove(tagLabels.size() - 1));
+        }
+        for (int i = 0; i < sortedTags.size(); i++) {
+            String tagName = sortedTags.get(i).tagName;
+            if (i < tagLabels.size()) {
+                ((Label) tagLabels.get(i)).setText(tagName);
+            } else {
+                tagLabels.add(tagLabelPool.acquire(tagName));
+            }
+        }
     }
 }
@@ -15,8 +15,13 @@ import seedu.address.model.recruit.Recruit;
  */
 public class RecruitListPanel extends UiPart<Region> {
     private static final String FXML = "RecruitListPanel.fxml";
+    private static final int TAG_LABEL_POOL_CAPACITY = 256;
+
     private final Logger logger = LogsCenter.getLogger(RecruitListPanel.class);
 
+    // Shared by the cards of every cell, so that tag labels freed by one card can be reused by another.
+    private final LabelPool tagLabelPool = new LabelPool(TAG_LABEL_POOL_CAPACITY);
+
     @FXML
     private ListView<Recruit> recruitListView;
 
@@ -29,10 +34,21 @@ public class RecruitListPanel extends UiPart<Region> {
         recruitListView.setCellFactory(listView -> new RecruitListViewCell());
     }
 
+    /**
+     * Returns the list view of the panel.
+     */
+    ListView<Recruit> getRecruitListView() {
+        return recruitListView;
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The cell creates a single card when it first displays a recruit, and rebinds it to every recruit it displays
+     * afterwards.
      */
     class RecruitListViewCell extends ListCell<Recruit> {
+        private RecruitCard card;
+
         @Override
         protected void updateItem(Recruit recruit, boolean empty) {
             super.updateItem(recruit, empty);
@@ -41,7 +57,11 @@ public class RecruitListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new RecruitCard(recruit, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new RecruitCard(tagLabelPool);
+                }
+                card.setRecruit(recruit, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
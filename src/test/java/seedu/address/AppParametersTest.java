@@ -39,10 +39,68 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_batchFromStdin_success() {
+        parametersStub.namedParameters.put("batch", AppParameters.BATCH_SOURCE_STDIN);
+        expected.setBatchSource(AppParameters.BATCH_SOURCE_STDIN);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidBatchPath_startsGui() {
+        parametersStub.namedParameters.put("batch", "a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_validSaveInterval_success() {
+        parametersStub.namedParameters.put("save-every", "100");
+        expected.setBatchSaveInterval(100);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidSaveInterval_savesAtEndOnly() {
+        parametersStub.namedParameters.put("save-every", "0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("save-every", "often");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_importFile_headless() {
+        parametersStub.namedParameters.put("import", "recruits.csv");
+        expected.setImportFile(Paths.get("recruits.csv"));
+        AppParameters appParameters = AppParameters.parse(parametersStub);
+        assertEquals(expected, appParameters);
+        assertTrue(appParameters.isHeadless());
+    }
+
+    @Test
+    public void parse_invalidImportPath_startsGui() {
+        parametersStub.namedParameters.put("import", "a\0");
+        AppParameters appParameters = AppParameters.parse(parametersStub);
+        assertEquals(expected, appParameters);
+        assertFalse(appParameters.isHeadless());
+    }
+
+    @Test
+    public void parse_rawArguments_namedParametersParsed() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setBatchSource("commands.txt");
+        expected.setBatchSaveInterval(50);
+        assertEquals(expected, AppParameters.parse(new String[] {"--config=config.json", "--batch=commands.txt",
+            "--save-every=50", "unnamed", "--=ignored"}));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", batchSource=" + appParameters.getBatchSource()
+                + ", batchSaveInterval=" + appParameters.getBatchSaveInterval()
+                + ", importFile=" + appParameters.getImportFile() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +124,21 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different batch source -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setBatchSource(AppParameters.BATCH_SOURCE_STDIN);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different batch save interval -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setBatchSaveInterval(10);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different import file -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setImportFile(Paths.get("recruits.csv"));
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
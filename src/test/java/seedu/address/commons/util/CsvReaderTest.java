@@ -0,0 +1,67 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    private static CsvReader readerOf(String csv) {
+        return new CsvReader(new BufferedReader(new StringReader(csv)));
+    }
+
+    @Test
+    public void readRecord_unquotedFields_success() throws Exception {
+        CsvReader reader = readerOf("name,phone\r\nAlice,9435\n,\n");
+        assertEquals(List.of("name", "phone"), reader.readRecord());
+        assertEquals(List.of("Alice", "9435"), reader.readRecord());
+        assertEquals(List.of("", ""), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedFields_success() throws Exception {
+        CsvReader reader = readerOf("\"123, Jurong West\",\"say \"\"hi\"\"\",\"\"");
+        assertEquals(List.of("123, Jurong West", "say \"hi\"", ""), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedLineBreak_recordSpansLines() throws Exception {
+        CsvReader reader = readerOf("a,\"first\nsecond\"\nb,c\n");
+        assertEquals(List.of("a", "first\nsecond"), reader.readRecord());
+        assertEquals(1, reader.getRecordLineNumber());
+        assertEquals(List.of("b", "c"), reader.readRecord());
+        assertEquals(3, reader.getRecordLineNumber());
+    }
+
+    @Test
+    public void readRecord_unterminatedQuote_endsAtEndOfInput() throws Exception {
+        CsvReader reader = readerOf("a,\"b\nc");
+        assertEquals(List.of("a", "b\nc"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_recordTooLong_throwsIoException() {
+        CsvReader reader = new CsvReader(new BufferedReader(new StringReader("a,\"b\nc\nd\n")), 4);
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_RECORD_TOO_LONG, 1, 4), reader::readRecord);
+    }
+
+    @Test
+    public void splitValues() {
+        assertEquals(List.of(), CsvReader.splitValues(""));
+        assertEquals(List.of("a"), CsvReader.splitValues("a"));
+        assertEquals(List.of("a", "", "b"), CsvReader.splitValues("a;;b"));
+        // escaped separators and backslashes, and a backslash at the end kept
+        assertEquals(List.of("a;b", "c\\d", "e\\"), CsvReader.splitValues("a\\;b;c\\\\d;e\\"));
+    }
+
+}
@@ -0,0 +1,45 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    private final StringWriter output = new StringWriter();
+    private final CsvWriter writer = new CsvWriter(output);
+
+    @Test
+    public void writeRecord_plainFields_notQuoted() throws Exception {
+        writer.writeRecord(List.of("Alice", "9435", ""));
+        assertEquals("Alice,9435,\n", output.toString());
+    }
+
+    @Test
+    public void writeRecord_specialCharacters_quoted() throws Exception {
+        writer.writeRecord(List.of("123, Jurong West", "say \"hi\"", "first\nsecond"));
+        assertEquals("\"123, Jurong West\",\"say \"\"hi\"\"\",\"first\nsecond\"\n", output.toString());
+    }
+
+    @Test
+    public void writeRecord_readBack_sameFields() throws Exception {
+        List<String> fields = List.of("a,b", "\"", "c\nd", "", "e");
+        writer.writeRecord(fields);
+        CsvReader reader = new CsvReader(new BufferedReader(new StringReader(output.toString())));
+        assertEquals(fields, reader.readRecord());
+    }
+
+    @Test
+    public void joinValues_splitBack_sameValues() {
+        List<String> values = List.of("a;b", "", "c\\d", "e\\", ";");
+        assertEquals("a\\;b;;c\\\\d;e\\\\;\\;", CsvWriter.joinValues(values));
+        assertEquals(values, CsvReader.splitValues(CsvWriter.joinValues(values)));
+        assertEquals(List.of(), CsvReader.splitValues(CsvWriter.joinValues(List.of())));
+    }
+
+}
@@ -1,13 +1,22 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,36 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_missingParentDirectories_fileWritten() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(file.resolveSibling("file.txt.tmp")));
+    }
+
+    @Test
+    public void writeAtomically_keepPreviousGeneration_previousContentRetained() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeAtomically(file, outputStream -> outputStream.write('a'), true);
+        assertFalse(Files.exists(FileUtil.getPreviousGenerationPath(file)));
+
+        FileUtil.writeAtomically(file, outputStream -> outputStream.write('b'), true);
+        assertEquals("b", FileUtil.readFromFile(file));
+        assertEquals("a", FileUtil.readFromFile(FileUtil.getPreviousGenerationPath(file)));
+    }
+
+    @Test
+    public void writeAtomically_failedWrite_fileUntouched() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "original");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, outputStream -> {
+            outputStream.write('x');
+            throw new IOException("Simulated failure");
+        }, false));
+        assertEquals("original", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(file.resolveSibling("file.txt.tmp")));
+    }
+
 }
@@ -0,0 +1,93 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public class InternPoolTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        InternPool<String> pool = new InternPool<>("test", InternPool::estimateSize);
+        assertThrows(NullPointerException.class, () -> pool.intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        InternPool<String> pool = new InternPool<>("test", InternPool::estimateSize);
+        String first = new String("interviewed");
+        String second = new String("interviewed");
+        assertNotSame(first, second);
+
+        assertSame(first, pool.intern(first));
+        assertSame(first, pool.intern(second));
+        assertSame(first, pool.intern(first));
+        assertEquals(1, pool.size());
+        assertEquals(2L, pool.getDuplicateCount());
+        assertEquals(2L * InternPool.estimateSize(second), pool.getBytesSaved());
+
+        String other = new String("rejected");
+        assertSame(other, pool.intern(other));
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    public void intern_concurrently_returnsOneInstancePerValue() throws Exception {
+        InternPool<String> pool = new InternPool<>("test", InternPool::estimateSize);
+        int threadCount = 8;
+        int valueCount = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Callable<String[]>> tasks = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                tasks.add(() -> {
+                    String[] interned = new String[valueCount];
+                    for (int j = 0; j < valueCount; j++) {
+                        interned[j] = pool.intern(new String("value " + j));
+                    }
+                    return interned;
+                });
+            }
+            List<Future<String[]>> results = executor.invokeAll(tasks);
+            String[] first = results.get(0).get();
+            for (Future<String[]> result : results) {
+                String[] interned = result.get();
+                for (int j = 0; j < valueCount; j++) {
+                    assertSame(first[j], interned[j]);
+                }
+            }
+            assertEquals(valueCount, pool.size());
+            assertEquals((long) (threadCount - 1) * valueCount, pool.getDuplicateCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void getReports_includesEveryPool() {
+        InternPool<String> pool = new InternPool<>("intern pool test", InternPool::estimateSize);
+        pool.intern("a");
+        assertTrue(InternPool.getReports().contains(pool.getReport()));
+    }
+
+    @Test
+    public void estimateSize() {
+        // 24 byte String, 16 byte array header and 8 bytes of Latin-1 characters
+        assertEquals(48L, InternPool.estimateSize("12345678"));
+        assertEquals(48L, InternPool.estimateSize("1234"));
+        // two bytes per character outside Latin-1
+        assertEquals(56L, InternPool.estimateSize("\u4e2d\u6587\u4e2d\u6587\u4e2d"));
+    }
+
+}
@@ -1,6 +1,8 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -123,6 +125,33 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toSearchKey --------------------------------------
+
+    @Test
+    public void toSearchKey_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toSearchKey(null));
+    }
+
+    @Test
+    public void toSearchKey_validInputs_correctResult() {
+        // lowercase ASCII is returned as is
+        String lowerCase = "alice@example.com 123";
+        assertSame(lowerCase, StringUtil.toSearchKey(lowerCase));
+
+        // case is folded
+        assertEquals("alice pauline", StringUtil.toSearchKey("Alice PAULINE"));
+        assertEquals("strasse", StringUtil.toSearchKey("Stra\u00dfe"));
+        assertEquals("strasse", StringUtil.toSearchKey("STRA\u1e9eE"));
+
+        // accents are stripped, whether composed or not
+        assertEquals("zoe", StringUtil.toSearchKey("Zo\u00eb"));
+        assertEquals("zoe", StringUtil.toSearchKey("Zoe\u0308"));
+        assertEquals("nguyen", StringUtil.toSearchKey("Nguy\u1ec5n"));
+
+        // compatibility characters are decomposed
+        assertEquals("fiona", StringUtil.toSearchKey("\ufb01ona"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,138 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalRecruits.ALICE;
+import static seedu.address.testutil.TypicalRecruits.BENSON;
+import static seedu.address.testutil.TypicalRecruits.CARL;
+import static seedu.address.testutil.TypicalRecruits.DANIEL;
+import static seedu.address.testutil.TypicalRecruits.ELLE;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.recruit.Recruit;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.RecruitUtil;
+
+public class BatchRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    private BatchRunner.Summary run(int saveInterval, String... lines) throws Exception {
+        BatchRunner batchRunner = new BatchRunner(model, storage, saveInterval,
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+        return batchRunner.run(new BufferedReader(new StringReader(String.join("\n", lines))));
+    }
+
+    private static AddressBook addressBookOf(Recruit... recruits) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setRecruits(List.of(recruits));
+        return addressBook;
+    }
+
+    private ReadOnlyAddressBook readSavedAddressBook() throws Exception {
+        return storage.readAddressBook().orElseThrow();
+    }
+
+    @Test
+    public void run_addCommands_savedOnceAtEnd() throws Exception {
+        BatchRunner.Summary summary = run(0, RecruitUtil.getAddCommand(ALICE), RecruitUtil.getAddCommand(BENSON),
+                RecruitUtil.getAddCommand(CARL));
+
+        assertEquals(3, summary.getCommandCount());
+        assertEquals(0, summary.getFailureCount());
+        assertEquals(1, summary.getSaveCount());
+        assertEquals(addressBookOf(ALICE, BENSON, CARL), readSavedAddressBook());
+    }
+
+    @Test
+    public void run_saveInterval_savedEveryIntervalAndAtEnd() throws Exception {
+        BatchRunner.Summary summary = run(2, RecruitUtil.getAddCommand(ALICE), RecruitUtil.getAddCommand(BENSON),
+                RecruitUtil.getAddCommand(CARL), RecruitUtil.getAddCommand(DANIEL), RecruitUtil.getAddCommand(ELLE));
+
+        assertEquals(3, summary.getSaveCount());
+        assertEquals(addressBookOf(ALICE, BENSON, CARL, DANIEL, ELLE), readSavedAddressBook());
+    }
+
+    @Test
+    public void run_unmodifiedAddressBook_notSaved() throws Exception {
+        BatchRunner.Summary summary = run(1, ListCommand.COMMAND_WORD, ListCommand.COMMAND_WORD);
+
+        assertEquals(0, summary.getSaveCount());
+        assertTrue(storage.readAddressBook().isEmpty());
+    }
+
+    @Test
+    public void run_failedCommand_reportedAndScriptContinued() throws Exception {
+        BatchRunner.Summary summary = run(0, RecruitUtil.getAddCommand(ALICE), RecruitUtil.getAddCommand(ALICE),
+                RecruitUtil.getAddCommand(BENSON));
+
+        assertEquals(1, summary.getFailureCount());
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains(
+                String.format(BatchRunner.MESSAGE_COMMAND_FAILED, 2, AddCommand.MESSAGE_DUPLICATE_RECRUIT)));
+        assertEquals(addressBookOf(ALICE, BENSON), readSavedAddressBook());
+    }
+
+    @Test
+    public void run_commandThrowingRuntimeException_reportedAndOtherChangesSaved() throws Exception {
+        // an id clause with a keyword that is not an id throws when a recruit is tested against it
+        BatchRunner.Summary summary = run(0, RecruitUtil.getAddCommand(ALICE),
+                FindCommand.COMMAND_WORD + " -id notauuid", RecruitUtil.getAddCommand(BENSON));
+
+        assertEquals(3, summary.getCommandCount());
+        assertEquals(1, summary.getFailureCount());
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains(
+                String.format(BatchRunner.MESSAGE_COMMAND_FAILED, 2, IllegalArgumentException.class.getName())));
+        assertEquals(addressBookOf(ALICE, BENSON), readSavedAddressBook());
+    }
+
+    @Test
+    public void run_commentsAndBlankLines_skipped() throws Exception {
+        BatchRunner.Summary summary = run(0, BatchRunner.COMMENT_PREFIX + " onboarding", "", "   ",
+                RecruitUtil.getAddCommand(ALICE));
+
+        assertEquals(1, summary.getCommandCount());
+        assertEquals(0, summary.getFailureCount());
+    }
+
+    @Test
+    public void run_exitCommand_stopsScript() throws Exception {
+        BatchRunner.Summary summary = run(0, RecruitUtil.getAddCommand(ALICE), ExitCommand.COMMAND_WORD,
+                RecruitUtil.getAddCommand(BENSON));
+
+        assertEquals(2, summary.getCommandCount());
+        assertEquals(addressBookOf(ALICE), readSavedAddressBook());
+    }
+
+}
@@ -0,0 +1,205 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalRecruits.ALICE;
+import static seedu.address.testutil.TypicalRecruits.HOON;
+import static seedu.address.testutil.TypicalRecruits.IDA;
+import static seedu.address.testutil.TypicalRecruits.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.TagsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.recruit.Recruit;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.RecruitUtil;
+
+public class CommandRunnerTest {
+
+    private static final String FIND_ALICE = "find -n Alice";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Queue<Runnable> workerTasks = new ArrayDeque<>();
+    private final Queue<Runnable> resultTasks = new ArrayDeque<>();
+    private final List<Boolean> busyChanges = new ArrayList<>();
+    private CommandRunner runner;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        runner = new CommandRunner(new LogicManager(model, storage), workerTasks::add, resultTasks::add);
+        runner.setBusyListener(busyChanges::add);
+    }
+
+    private static void runTasks(Queue<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+    }
+
+    private void runAllTasks() {
+        runTasks(workerTasks);
+        runTasks(resultTasks);
+    }
+
+    @Test
+    public void submit_validCommand_completesOnResultExecutor() throws Exception {
+        CompletableFuture<CommandResult> result = runner.submit(ListCommand.COMMAND_WORD);
+        runTasks(workerTasks);
+        assertFalse(result.isDone());
+
+        runTasks(resultTasks);
+        assertEquals(ListCommand.MESSAGE_SUCCESS, result.get().getFeedbackToUser());
+    }
+
+    @Test
+    public void submit_invalidCommand_completesExceptionally() {
+        CompletableFuture<CommandResult> result = runner.submit("uicfhmowqewca");
+        runAllTasks();
+
+        Throwable failure = result.handle((commandResult, error) -> error).join();
+        assertTrue(failure instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, failure.getMessage());
+    }
+
+    @Test
+    public void submit_filteringCommand_displayedListUpdatedOnResultExecutor() {
+        int recruitCount = model.getFilteredRecruitList().size();
+        runner.submit(FIND_ALICE);
+        runTasks(workerTasks);
+        assertEquals(1, model.getFilteredRecruitList().size());
+        assertEquals(recruitCount, runner.getDisplayedRecruitList().size());
+
+        runTasks(resultTasks);
+        assertEquals(List.of(ALICE), runner.getDisplayedRecruitList());
+    }
+
+    @Test
+    public void submit_addAndDeleteCommands_changesReplayedOnDisplayedList() {
+        List<String> displayedListChanges = new ArrayList<>();
+        runner.getDisplayedRecruitList().addListener((ListChangeListener<Recruit>) change -> {
+            while (change.next()) {
+                displayedListChanges.add(change.getFrom() + ": -" + change.getRemovedSize() + " +"
+                        + change.getAddedSize());
+            }
+        });
+        int recruitCount = model.getFilteredRecruitList().size();
+
+        runner.submit(RecruitUtil.getAddCommand(HOON));
+        runAllTasks();
+        assertEquals(model.getFilteredRecruitList(), runner.getDisplayedRecruitList());
+        assertEquals(List.of(recruitCount + ": -0 +1"), displayedListChanges);
+
+        displayedListChanges.clear();
+        runner.submit(DeleteCommand.COMMAND_WORD + " " + ALICE.getID());
+        runAllTasks();
+        assertEquals(model.getFilteredRecruitList(), runner.getDisplayedRecruitList());
+        assertEquals(List.of("0: -1 +0"), displayedListChanges);
+    }
+
+    @Test
+    public void submit_mixedCommands_displayedListSameAsFilteredList() {
+        List<String> commands = List.of(RecruitUtil.getAddCommand(HOON), FIND_ALICE,
+                RecruitUtil.getAddCommand(IDA), ListCommand.COMMAND_WORD, SortCommand.COMMAND_WORD + " -p desc",
+                DeleteCommand.COMMAND_WORD + " " + IDA.getID(),
+                SortCommand.COMMAND_WORD + " " + SortCommand.OFF_KEYWORD,
+                DeleteCommand.COMMAND_WORD + " " + ALICE.getID(), ClearCommand.COMMAND_WORD);
+        for (String command : commands) {
+            runner.submit(command);
+            runAllTasks();
+            assertEquals(model.getFilteredRecruitList(), runner.getDisplayedRecruitList(), command);
+        }
+    }
+
+    @Test
+    public void setGuiSettings_setOnWorker() {
+        GuiSettings guiSettings = new GuiSettings(1, 2, 3, 4);
+        runner.setGuiSettings(guiSettings);
+        assertEquals(new GuiSettings(), model.getGuiSettings());
+
+        runTasks(workerTasks);
+        assertEquals(guiSettings, model.getGuiSettings());
+    }
+
+    @Test
+    public void submit_consecutiveListQueries_earlierQueriesCancelled() throws Exception {
+        CompletableFuture<CommandResult> first = runner.submit(ListCommand.COMMAND_WORD);
+        CompletableFuture<CommandResult> second = runner.submit(ListCommand.COMMAND_WORD);
+        CompletableFuture<CommandResult> third = runner.submit(FIND_ALICE);
+        runAllTasks();
+
+        assertTrue(first.isCancelled());
+        assertTrue(second.isCancelled());
+        assertEquals(List.of(ALICE), runner.getDisplayedRecruitList());
+        assertEquals(String.format(Messages.MESSAGE_RECRUITS_LISTED_OVERVIEW, 1), third.get().getFeedbackToUser());
+    }
+
+    @Test
+    public void submit_listQueryFollowedByOtherCommand_listQueryRun() throws Exception {
+        CompletableFuture<CommandResult> find = runner.submit(FIND_ALICE);
+        CompletableFuture<CommandResult> tags = runner.submit(TagsCommand.COMMAND_WORD);
+        runAllTasks();
+
+        assertFalse(find.isCancelled());
+        assertTrue(tags.get().getFeedbackToUser().startsWith(String.format(TagsCommand.MESSAGE_SUCCESS, 1)));
+    }
+
+    @Test
+    public void submit_cancelledBeforeStart_notRun() {
+        CompletableFuture<CommandResult> find = runner.submit(FIND_ALICE);
+        find.cancel(false);
+        runAllTasks();
+
+        assertEquals(getTypicalAddressBook().getRecruitList().size(), model.getFilteredRecruitList().size());
+    }
+
+    @Test
+    public void submit_severalCommands_busyUntilAllFinished() {
+        runner.submit(ListCommand.COMMAND_WORD);
+        runner.submit(TagsCommand.COMMAND_WORD);
+        assertEquals(List.of(true), busyChanges);
+
+        runTasks(workerTasks);
+        resultTasks.poll().run();
+        assertEquals(List.of(true), busyChanges);
+
+        runTasks(resultTasks);
+        assertEquals(List.of(true, false), busyChanges);
+    }
+
+    @Test
+    public void getDisplayedRecruitList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> runner.getDisplayedRecruitList().remove(0));
+    }
+
+}
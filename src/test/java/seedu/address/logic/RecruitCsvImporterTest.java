@@ -0,0 +1,159 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalRecruits.ALICE;
+import static seedu.address.testutil.TypicalRecruits.BENSON;
+import static seedu.address.testutil.TypicalRecruits.CARL;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvReader;
+import seedu.address.model.recruit.Name;
+import seedu.address.model.recruit.Recruit;
+
+public class RecruitCsvImporterTest {
+
+    private static final String HEADER = "id,name,phone,email,address,tags";
+    private static final String ALICE_ROW = "eac9b117-2ded-42c3-9264-ccf3dfaaa950,Alice Pauline,94351253,"
+            + "alice@example.com,\"123, Jurong West Ave 6, #08-111\",friends";
+    private static final String BENSON_ROW = "eac9b117-2ded-42c3-9264-ccf3dfaaa951,Benson Meier,98765432,"
+            + "johnd@example.com,\"311, Clementi Ave 2, #02-25\",owesMoney;friends";
+    private static final String CARL_ROW = "eac9b117-2ded-42c3-9264-ccf3dfaaa952,Carl Kurz,95352563,"
+            + "heinz@example.com,wall street,";
+    private static final String INVALID_NAME_ROW = ",R@chel,94351253,rachel@example.com,somewhere,";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Path writeCsv(String... lines) throws Exception {
+        Path csvFile = temporaryFolder.resolve("recruits.csv");
+        Files.write(csvFile, List.of(lines), StandardCharsets.UTF_8);
+        return csvFile;
+    }
+
+    /**
+     * Returns an importer that validates chunks of two rows on the calling thread.
+     */
+    private static RecruitCsvImporter importerOf(Recruit... existingRecruits) {
+        return new RecruitCsvImporter(recruit -> List.of(existingRecruits).contains(recruit), 2, Runnable::run, 2);
+    }
+
+    private static List<List<String>> readRejects(Path rejectFile) throws Exception {
+        List<List<String>> records = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(rejectFile, StandardCharsets.UTF_8)) {
+            CsvReader csvReader = new CsvReader(reader);
+            List<String> record;
+            while ((record = csvReader.readRecord()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    @Test
+    public void importFrom_validRows_recruitsInOrder() throws Exception {
+        Path csvFile = writeCsv(HEADER, ALICE_ROW, BENSON_ROW, "", CARL_ROW);
+        RecruitCsvImporter.Result result = importerOf().importFrom(csvFile);
+
+        assertEquals(List.of(ALICE, BENSON, CARL), result.getRecruits());
+        assertEquals(3, result.getRowCount());
+        assertEquals(0, result.getRejectCount());
+        assertFalse(result.getRejectFile().isPresent());
+    }
+
+    @Test
+    public void importFrom_byteOrderMark_headerRead() throws Exception {
+        Path csvFile = writeCsv("\uFEFF" + HEADER, ALICE_ROW);
+        RecruitCsvImporter.Result result = importerOf().importFrom(csvFile);
+
+        assertEquals(List.of(ALICE), result.getRecruits());
+        assertEquals(0, result.getRejectCount());
+    }
+
+    @Test
+    public void importFrom_columnsInAnyOrderWithoutId_success() throws Exception {
+        Path csvFile = writeCsv("Email, NAME ,address,phone,notes", "alice@example.com,Alice Pauline,home,94351253,x");
+        RecruitCsvImporter.Result result = importerOf().importFrom(csvFile);
+
+        assertEquals(1, result.getRecruits().size());
+        Recruit recruit = result.getRecruits().get(0);
+        assertEquals(new Name("Alice Pauline"), recruit.getName());
+        assertTrue(recruit.getTags().isEmpty());
+    }
+
+    @Test
+    public void importFrom_invalidAndDuplicateRows_writtenToRejectFile() throws Exception {
+        Path csvFile = writeCsv(HEADER, ALICE_ROW, INVALID_NAME_ROW, BENSON_ROW, "too,few", BENSON_ROW, CARL_ROW);
+        RecruitCsvImporter.Result result = importerOf(ALICE).importFrom(csvFile);
+
+        assertEquals(List.of(BENSON, CARL), result.getRecruits());
+        assertEquals(6, result.getRowCount());
+        assertEquals(4, result.getRejectCount());
+
+        Path rejectFile = RecruitCsvImporter.getRejectFile(csvFile);
+        assertEquals(rejectFile, result.getRejectFile().get());
+        List<List<String>> rejects = readRejects(rejectFile);
+        assertEquals(5, rejects.size());
+        assertEquals(List.of(RecruitCsvImporter.REJECT_COLUMN_LINE, RecruitCsvImporter.REJECT_COLUMN_ERROR, "id",
+                "name", "phone", "email", "address", "tags"), rejects.get(0));
+        assertEquals(List.of("2", RecruitCsvImporter.MESSAGE_DUPLICATE_ROW), rejects.get(1).subList(0, 2));
+        assertEquals(List.of("3", Name.MESSAGE_CONSTRAINTS, "", "R@chel"), rejects.get(2).subList(0, 4));
+        assertEquals(List.of("5", String.format(RecruitCsvImporter.MESSAGE_WRONG_FIELD_COUNT, 2, 6), "too", "few"),
+                rejects.get(3));
+        assertEquals(List.of("6", RecruitCsvImporter.MESSAGE_DUPLICATE_ROW), rejects.get(4).subList(0, 2));
+    }
+
+    @Test
+    public void importFrom_noRejects_staleRejectFileDeleted() throws Exception {
+        Path csvFile = writeCsv(HEADER, INVALID_NAME_ROW);
+        importerOf().importFrom(csvFile);
+        assertTrue(Files.exists(RecruitCsvImporter.getRejectFile(csvFile)));
+
+        writeCsv(HEADER, ALICE_ROW);
+        importerOf().importFrom(csvFile);
+        assertFalse(Files.exists(RecruitCsvImporter.getRejectFile(csvFile)));
+    }
+
+    @Test
+    public void importFrom_commonPool_recruitsInOrder() throws Exception {
+        List<String> lines = new ArrayList<>(List.of("name,phone,email,address"));
+        for (int i = 0; i < 3 * RecruitCsvImporter.DEFAULT_CHUNK_SIZE; i++) {
+            lines.add("Recruit " + i + "," + String.format("9%07d", i) + ",r" + i + "@example.com,address " + i);
+        }
+        Path csvFile = writeCsv(lines.toArray(String[]::new));
+        RecruitCsvImporter.Result result = new RecruitCsvImporter(recruit -> false).importFrom(csvFile);
+
+        assertEquals(3 * RecruitCsvImporter.DEFAULT_CHUNK_SIZE, result.getRecruits().size());
+        for (int i = 0; i < result.getRecruits().size(); i++) {
+            assertEquals(new Name("Recruit " + i), result.getRecruits().get(i).getName());
+        }
+    }
+
+    @Test
+    public void importFrom_missingColumn_throwsIllegalValueException() throws Exception {
+        Path csvFile = writeCsv("name,phone,address", "Alice Pauline,94351253,home");
+        assertThrows(IllegalValueException.class,
+                String.format(RecruitCsvImporter.MESSAGE_MISSING_COLUMN, RecruitCsvImporter.COLUMN_EMAIL), () ->
+                        importerOf().importFrom(csvFile));
+    }
+
+    @Test
+    public void importFrom_emptyFile_throwsIllegalValueException() throws Exception {
+        Path csvFile = writeCsv();
+        assertThrows(IllegalValueException.class, RecruitCsvImporter.MESSAGE_EMPTY_FILE, () ->
+                importerOf().importFrom(csvFile));
+    }
+
+}
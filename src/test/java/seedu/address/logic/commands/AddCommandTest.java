@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalRecruits.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Predicate;
@@ -24,7 +26,10 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.recruit.NestedOrPredicate;
 import seedu.address.model.recruit.Recruit;
+import seedu.address.model.recruit.RecruitSortOrder;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.RecruitBuilder;
 
 public class AddCommandTest {
@@ -125,6 +130,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addRecruits(List<Recruit> recruits) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -151,7 +161,12 @@ public class AddCommandTest {
         }
 
         @Override
-        public void sortRecruits() {
+        public void sortRecruits(RecruitSortOrder sortOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearRecruitSortOrder() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -169,6 +184,16 @@ public class AddCommandTest {
         public void updateFilteredRecruitList(Predicate<Recruit> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredRecruitList(NestedOrPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Tag, Integer> getFilteredTagCounts() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
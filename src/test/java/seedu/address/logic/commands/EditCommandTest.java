@@ -102,9 +102,12 @@ public class EditCommandTest {
                 editCommand.formatDelta(initialRecruit, descriptor));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        showRecruitAtIndex(expectedModel, INDEX_FIRST_RECRUIT);
         expectedModel.setRecruit(model.getFilteredRecruitList().get(0), editedRecruit);
 
+        // the search stays active, and the edited recruit no longer matches it
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+        assertTrue(model.getFilteredRecruitList().isEmpty());
     }
 
 
@@ -0,0 +1,106 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.showRecruitAtIndex;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_RECRUIT;
+import static seedu.address.testutil.TypicalRecruits.ALICE;
+import static seedu.address.testutil.TypicalRecruits.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.RecruitCsvImporter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.RecruitExporter.Format;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ExportCommand.
+ */
+public class ExportCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullFile_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand(null, Format.CSV, false));
+    }
+
+    @Test
+    public void execute_wholeAddressBook_allRecruitsExported() throws Exception {
+        showRecruitAtIndex(model, INDEX_FIRST_RECRUIT);
+        Path file = temporaryFolder.resolve("recruits.csv");
+
+        CommandResult commandResult = new ExportCommand(file, Format.CSV, false).execute(model);
+
+        int recruitCount = model.getAddressBook().getRecruitList().size();
+        assertTrue(commandResult.getFeedbackToUser().startsWith("Exported " + recruitCount + " recruits to " + file));
+        assertEquals(model.getAddressBook().getRecruitList(),
+                new RecruitCsvImporter(recruit -> false).importFrom(file).getRecruits());
+    }
+
+    @Test
+    public void execute_filteredOnly_listedRecruitsExported() throws Exception {
+        showRecruitAtIndex(model, INDEX_FIRST_RECRUIT);
+        Path file = temporaryFolder.resolve("shortlist.csv");
+
+        CommandResult commandResult = new ExportCommand(file, Format.CSV, true).execute(model);
+
+        assertTrue(commandResult.getFeedbackToUser().startsWith("Exported 1 recruits to " + file));
+        assertEquals(List.of(ALICE), new RecruitCsvImporter(recruit -> false).importFrom(file).getRecruits());
+    }
+
+    @Test
+    public void execute_unwritableFile_throwsCommandException() {
+        ExportCommand exportCommand = new ExportCommand(temporaryFolder, Format.JSON_LINES, false);
+        assertThrows(CommandException.class, () -> exportCommand.execute(model));
+        assertFalse(Files.isRegularFile(temporaryFolder));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(Paths.get("recruits.csv"), Format.CSV, false);
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(Paths.get("recruits.csv"), Format.CSV, false)));
+
+        // different types -> returns false
+        assertFalse(exportCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("other.csv"), Format.CSV, false)));
+
+        // different format -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("recruits.csv"), Format.JSON_LINES, false)));
+
+        // filtered only -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("recruits.csv"), Format.CSV, true)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ExportCommand exportCommand = new ExportCommand(Paths.get("recruits.csv"), Format.CSV, true);
+        String expected = ExportCommand.class.getCanonicalName()
+                + "{file=recruits.csv, format=CSV, isFilteredOnly=true}";
+        assertEquals(expected, exportCommand.toString());
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalRecruits.ALICE;
+import static seedu.address.testutil.TypicalRecruits.BENSON;
+import static seedu.address.testutil.TypicalRecruits.CARL;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.RecruitCsvImporter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ImportCommand.
+ */
+public class ImportCommandTest {
+
+    private static final String HEADER = "id,name,phone,email,address,tags";
+    private static final String BENSON_ROW = "eac9b117-2ded-42c3-9264-ccf3dfaaa951,Benson Meier,98765432,"
+            + "johnd@example.com,\"311, Clementi Ave 2, #02-25\",owesMoney;friends";
+    private static final String CARL_ROW = "eac9b117-2ded-42c3-9264-ccf3dfaaa952,Carl Kurz,95352563,"
+            + "heinz@example.com,wall street,";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+
+    private Path writeCsv(String... lines) throws Exception {
+        Path csvFile = temporaryFolder.resolve("recruits.csv");
+        Files.write(csvFile, List.of(lines), StandardCharsets.UTF_8);
+        return csvFile;
+    }
+
+    @Test
+    public void constructor_nullFile_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void execute_validFile_recruitsAdded() throws Exception {
+        model.addRecruit(ALICE);
+        Path csvFile = writeCsv(HEADER, BENSON_ROW, CARL_ROW);
+
+        CommandResult commandResult = new ImportCommand(csvFile).execute(model);
+
+        assertEquals(List.of(ALICE, BENSON, CARL), model.getAddressBook().getRecruitList());
+        assertTrue(commandResult.getFeedbackToUser().startsWith("Imported 2 of 2 recruits"));
+        assertFalse(commandResult.getFeedbackToUser().contains(RecruitCsvImporter.REJECT_FILE_SUFFIX));
+    }
+
+    @Test
+    public void execute_duplicateRows_rejectsReported() throws Exception {
+        model.addRecruit(BENSON);
+        Path csvFile = writeCsv(HEADER, BENSON_ROW, CARL_ROW);
+
+        CommandResult commandResult = new ImportCommand(csvFile).execute(model);
+
+        assertEquals(List.of(BENSON, CARL), model.getAddressBook().getRecruitList());
+        assertTrue(commandResult.getFeedbackToUser().startsWith("Imported 1 of 2 recruits"));
+        assertTrue(commandResult.getFeedbackToUser().endsWith(String.format(ImportCommand.MESSAGE_REJECTS, 1,
+                RecruitCsvImporter.getRejectFile(csvFile))));
+    }
+
+    @Test
+    public void execute_missingColumn_throwsCommandException() throws Exception {
+        Path csvFile = writeCsv("name,phone,email", "Carl Kurz,95352563,heinz@example.com");
+        assertCommandFailure(new ImportCommand(csvFile), model, String.format(ImportCommand.MESSAGE_IMPORT_FAILED,
+                csvFile, String.format(RecruitCsvImporter.MESSAGE_MISSING_COLUMN, RecruitCsvImporter.COLUMN_ADDRESS)));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        ImportCommand importCommand = new ImportCommand(temporaryFolder.resolve("missing.csv"));
+        assertThrows(CommandException.class, () -> importCommand.execute(model));
+        assertTrue(model.getAddressBook().getRecruitList().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("recruits.csv"));
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("recruits.csv"))));
+
+        // different types -> returns false
+        assertFalse(importCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("other.csv"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("recruits.csv"));
+        String expected = ImportCommand.class.getCanonicalName() + "{csvFile=recruits.csv}";
+        assertEquals(expected, importCommand.toString());
+    }
+}
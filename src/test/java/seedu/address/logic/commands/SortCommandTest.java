@@ -1,16 +1,24 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalRecruits.getTypicalAddressBook;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.recruit.Recruit;
+import seedu.address.model.recruit.RecruitSortOrder;
+import seedu.address.model.recruit.RecruitSortOrder.Criterion;
+import seedu.address.model.recruit.RecruitSortOrder.Field;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for SortCommand.
@@ -29,9 +37,9 @@ public class SortCommandTest {
     @Test
     public void execute_sortRecruits_success() {
         SortCommand sortCommand = new SortCommand();
-        expectedModel.sortRecruits();
+        expectedModel.sortRecruits(RecruitSortOrder.BY_NAME);
 
-        assertCommandSuccess(sortCommand, model, SortCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandSuccess(sortCommand, model, "Recruits sorted by name from A to Z.", expectedModel);
 
         // Verify the list is sorted alphabetically by name
         var recruitList = model.getFilteredRecruitList();
@@ -48,12 +56,63 @@ public class SortCommandTest {
     public void execute_emptyList_success() {
         model = new ModelManager();
         expectedModel = new ModelManager();
+        expectedModel.sortRecruits(RecruitSortOrder.BY_NAME);
 
         SortCommand sortCommand = new SortCommand();
-        assertCommandSuccess(sortCommand, model, SortCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandSuccess(sortCommand, model, "Recruits sorted by name from A to Z.", expectedModel);
 
         // Verify empty list remains empty
         assertEquals(0, model.getFilteredRecruitList().size());
     }
-}
 
+    @Test
+    public void execute_severalFields_success() {
+        RecruitSortOrder sortOrder = new RecruitSortOrder(List.of(
+                new Criterion(Field.TAG_COUNT, true), new Criterion(Field.NAME, true)));
+        SortCommand sortCommand = new SortCommand(sortOrder);
+        expectedModel.sortRecruits(sortOrder);
+
+        assertCommandSuccess(sortCommand, model,
+                "Recruits sorted by tag count from most to fewest, then by name from Z to A.", expectedModel);
+
+        List<Recruit> recruitList = model.getFilteredRecruitList();
+        for (int i = 0; i < recruitList.size() - 1; i++) {
+            Recruit current = recruitList.get(i);
+            Recruit next = recruitList.get(i + 1);
+            int currentTagCount = current.getTags().size();
+            int nextTagCount = next.getTags().size();
+            assertTrue(currentTagCount > nextTagCount || currentTagCount == nextTagCount
+                    && current.getName().fullName.compareTo(next.getName().fullName) >= 0,
+                    "Found: " + current + " before " + next);
+        }
+    }
+
+    @Test
+    public void execute_off_stopsSorting() {
+        model.sortRecruits(RecruitSortOrder.BY_NAME);
+        expectedModel.sortRecruits(RecruitSortOrder.BY_NAME);
+        expectedModel.clearRecruitSortOrder();
+
+        assertCommandSuccess(SortCommand.off(), model, SortCommand.MESSAGE_SORT_OFF, expectedModel);
+        assertEquals(Optional.empty(), model.getUserPrefs().getRecruitSortOrder());
+    }
+
+    @Test
+    public void equals() {
+        SortCommand byName = new SortCommand();
+        SortCommand byPhone = new SortCommand(new RecruitSortOrder(List.of(new Criterion(Field.PHONE, false))));
+
+        // same values -> returns true
+        assertTrue(byName.equals(new SortCommand(RecruitSortOrder.BY_NAME)));
+
+        // same object -> returns true
+        assertTrue(byName.equals(byName));
+
+        // null -> returns false
+        assertFalse(byName.equals(null));
+
+        // different sort order -> returns false
+        assertFalse(byName.equals(byPhone));
+        assertFalse(byName.equals(SortCommand.off()));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showRecruitAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_RECRUIT;
+import static seedu.address.testutil.TypicalRecruits.CARL;
+import static seedu.address.testutil.TypicalRecruits.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) for TagsCommand.
+ */
+public class TagsCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_listIsNotFiltered_countsAllRecruits() {
+        String expectedMessage = String.format(TagsCommand.MESSAGE_SUCCESS, 7)
+                + "\n" + TagsCommand.formatTagCount(new Tag("friends"), 3)
+                + "\n" + TagsCommand.formatTagCount(new Tag("owesMoney"), 1);
+        assertCommandSuccess(new TagsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_listIsFiltered_countsListedRecruits() {
+        showRecruitAtIndex(model, INDEX_FIRST_RECRUIT);
+        showRecruitAtIndex(expectedModel, INDEX_FIRST_RECRUIT);
+        String expectedMessage = String.format(TagsCommand.MESSAGE_SUCCESS, 1)
+                + "\n" + TagsCommand.formatTagCount(new Tag("friends"), 1);
+        assertCommandSuccess(new TagsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_listedRecruitsWithoutTags_noTags() {
+        model.updateFilteredRecruitList(recruit -> recruit.equals(CARL));
+        expectedModel.updateFilteredRecruitList(recruit -> recruit.equals(CARL));
+        assertCommandSuccess(new TagsCommand(), model, TagsCommand.MESSAGE_NO_TAGS, expectedModel);
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_NAME;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_RECRUIT;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -20,14 +21,22 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditRecruitDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.TagsCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.recruit.FieldContainsKeywordsPredicate;
 import seedu.address.model.recruit.NestedOrPredicate;
 import seedu.address.model.recruit.Recruit;
+import seedu.address.model.recruit.RecruitSortOrder;
+import seedu.address.model.recruit.RecruitSortOrder.Criterion;
+import seedu.address.model.recruit.RecruitSortOrder.Field;
+import seedu.address.storage.RecruitExporter.Format;
 import seedu.address.testutil.EditRecruitDescriptorBuilder;
 import seedu.address.testutil.RecruitBuilder;
 import seedu.address.testutil.RecruitUtil;
@@ -93,6 +102,31 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_sort() throws Exception {
+        assertEquals(new SortCommand(), parser.parseCommand(SortCommand.COMMAND_WORD));
+        SortCommand command = (SortCommand) parser.parseCommand(SortCommand.COMMAND_WORD + " -p desc");
+        assertEquals(new SortCommand(new RecruitSortOrder(List.of(new Criterion(Field.PHONE, true)))), command);
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        assertEquals(new ImportCommand(Paths.get("recruits.csv")),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + " recruits.csv"));
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertEquals(new ExportCommand(Paths.get("recruits.jsonl"), Format.JSON_LINES, true),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " -f recruits.jsonl"));
+    }
+
+    @Test
+    public void parseCommand_tags() throws Exception {
+        assertTrue(parser.parseCommand(TagsCommand.COMMAND_WORD) instanceof TagsCommand);
+        assertTrue(parser.parseCommand(TagsCommand.COMMAND_WORD + " 3") instanceof TagsCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.storage.RecruitExporter.Format;
+
+public class ExportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_wholeAddressBook_returnsExportCommand() {
+        assertParseSuccess(parser, " data/recruits.csv ",
+                new ExportCommand(Paths.get("data/recruits.csv"), Format.CSV, false));
+        assertParseSuccess(parser, " my recruits.jsonl",
+                new ExportCommand(Paths.get("my recruits.jsonl"), Format.JSON_LINES, false));
+    }
+
+    @Test
+    public void parse_filteredFlag_returnsFilteredExportCommand() {
+        assertParseSuccess(parser, " -f   shortlist.csv",
+                new ExportCommand(Paths.get("shortlist.csv"), Format.CSV, true));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        assertParseFailure(parser, "  ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " -f ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_unknownExtension_throwsParseException() {
+        assertParseFailure(parser, " recruits.json", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " -f recruits", MESSAGE_INVALID_FORMAT);
+    }
+
+}
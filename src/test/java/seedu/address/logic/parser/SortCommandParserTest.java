@@ -0,0 +1,63 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.recruit.RecruitSortOrder;
+import seedu.address.model.recruit.RecruitSortOrder.Criterion;
+import seedu.address.model.recruit.RecruitSortOrder.Field;
+
+public class SortCommandParserTest {
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsSortByName() {
+        assertParseSuccess(parser, "   ", new SortCommand(RecruitSortOrder.BY_NAME));
+    }
+
+    @Test
+    public void parse_off_returnsSortOff() {
+        assertParseSuccess(parser, " off ", SortCommand.off());
+        assertParseFailure(parser, "-n off", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SortCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        SortCommand expectedSortCommand = new SortCommand(new RecruitSortOrder(List.of(
+                new Criterion(Field.TAG_COUNT, true), new Criterion(Field.NAME, false),
+                new Criterion(Field.EMAIL, false), new Criterion(Field.PHONE, true),
+                new Criterion(Field.ADDRESS, false))));
+        assertParseSuccess(parser, "-t desc -n -e asc -p desc -a", expectedSortCommand);
+
+        // multiple whitespaces between flags
+        assertParseSuccess(parser, " \n -t  desc \t -n -e asc \n -p desc -a  ", expectedSortCommand);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+
+        // unknown flag
+        assertParseFailure(parser, "-id", expectedMessage);
+
+        // direction without a flag
+        assertParseFailure(parser, "desc -n", expectedMessage);
+
+        // direction given twice
+        assertParseFailure(parser, "-n asc desc", expectedMessage);
+    }
+
+    @Test
+    public void parse_repeatedField_throwsParseException() {
+        assertParseFailure(parser, "-n -t -n desc", RecruitSortOrder.MESSAGE_CONSTRAINTS);
+    }
+
+}
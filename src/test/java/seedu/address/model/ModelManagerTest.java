@@ -12,12 +12,18 @@ import static seedu.address.testutil.TypicalRecruits.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.recruit.FieldContainsKeywordsPredicate;
+import seedu.address.model.recruit.NestedOrPredicate;
+import seedu.address.model.recruit.Recruit;
+import seedu.address.model.recruit.RecruitSortOrder;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.RecruitBuilder;
 
 public class ModelManagerTest {
 
@@ -94,6 +100,65 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredRecruitList().remove(0));
     }
 
+    @Test
+    public void addRecruit_activeSearch_keepsSearch() {
+        modelManager = new ModelManager(new AddressBookBuilder().withRecruit(ALICE).withRecruit(BENSON).build(),
+                new UserPrefs());
+        modelManager.updateFilteredRecruitList(new NestedOrPredicate(
+                new FieldContainsKeywordsPredicate(List.of("alice"), SEARCH_PREFIX_NAME)));
+
+        Recruit matching = new RecruitBuilder().withName("Alice Tan").build();
+        Recruit notMatching = new RecruitBuilder().withName("Carl Tan").build();
+        modelManager.addRecruit(notMatching);
+        modelManager.addRecruit(matching);
+        assertEquals(List.of(ALICE, matching), modelManager.getFilteredRecruitList());
+    }
+
+    @Test
+    public void setRecruit_activeSearch_keepsSearch() {
+        modelManager = new ModelManager(new AddressBookBuilder().withRecruit(ALICE).withRecruit(BENSON).build(),
+                new UserPrefs());
+        modelManager.updateFilteredRecruitList(new NestedOrPredicate(
+                new FieldContainsKeywordsPredicate(List.of("alice"), SEARCH_PREFIX_NAME)));
+
+        // edited recruit starts matching the search
+        Recruit editedBenson = new RecruitBuilder(BENSON).withName("Benson Alice").build();
+        modelManager.setRecruit(BENSON, editedBenson);
+        assertEquals(List.of(ALICE, editedBenson), modelManager.getFilteredRecruitList());
+
+        // edited recruit stops matching the search
+        Recruit editedAlice = new RecruitBuilder(ALICE).withName("Amy").build();
+        modelManager.setRecruit(ALICE, editedAlice);
+        assertEquals(List.of(editedBenson), modelManager.getFilteredRecruitList());
+
+        // deleted recruit leaves the search results
+        modelManager.deleteRecruit(editedBenson);
+        assertTrue(modelManager.getFilteredRecruitList().isEmpty());
+    }
+
+    @Test
+    public void constructor_userPrefsWithSortOrder_keepsRecruitsSorted() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setRecruitSortOrder(RecruitSortOrder.BY_NAME);
+        modelManager = new ModelManager(new AddressBookBuilder().withRecruit(BENSON).withRecruit(ALICE).build(),
+                userPrefs);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredRecruitList());
+
+        Recruit amy = new RecruitBuilder().withName("Amy").build();
+        modelManager.addRecruit(amy);
+        assertEquals(List.of(ALICE, amy, BENSON), modelManager.getFilteredRecruitList());
+    }
+
+    @Test
+    public void sortRecruits_sortOrder_savedInUserPrefs() {
+        modelManager.sortRecruits(RecruitSortOrder.BY_NAME);
+        assertEquals(Optional.of(RecruitSortOrder.BY_NAME), modelManager.getUserPrefs().getRecruitSortOrder());
+
+        modelManager.clearRecruitSortOrder();
+        assertEquals(Optional.empty(), modelManager.getUserPrefs().getRecruitSortOrder());
+        assertEquals(Optional.empty(), ((AddressBook) modelManager.getAddressBook()).getSortOrder());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withRecruit(ALICE).withRecruit(BENSON).build();
@@ -0,0 +1,58 @@
+package seedu.address.model.recruit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedPostingListTest {
+
+    private static CompressedPostingList of(int... values) {
+        CompressedPostingList list = new CompressedPostingList();
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Test
+    public void add_ascendingAndUnordered_sortedWithoutDuplicates() {
+        assertArrayEquals(new int[] {0, 1, 200, 70000}, of(0, 1, 200, 70000).toArray());
+        assertArrayEquals(new int[] {0, 3, 5, 128, 1 << 30}, of(128, 3, 1 << 30, 5, 0, 3, 128).toArray());
+        assertEquals(5, of(128, 3, 1 << 30, 5, 0, 3, 128).size());
+    }
+
+    @Test
+    public void remove() {
+        CompressedPostingList list = of(2, 300, 5, 40000);
+        list.remove(300);
+        list.remove(7);
+        list.remove(50000);
+        assertArrayEquals(new int[] {2, 5, 40000}, list.toArray());
+
+        list.remove(40000);
+        list.add(6);
+        assertArrayEquals(new int[] {2, 5, 6}, list.toArray());
+
+        list.remove(2);
+        list.remove(5);
+        list.remove(6);
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void intersect() {
+        BitSet expected = new BitSet();
+        expected.set(5);
+        expected.set(300);
+        assertEquals(expected, CompressedPostingList.intersect(
+                List.of(of(1, 5, 9, 300, 4000), of(5, 300), of(0, 5, 6, 300, 301))));
+        assertEquals(new BitSet(), CompressedPostingList.intersect(List.of(of(1, 2), of(3, 4), of(1, 2, 3, 4))));
+        assertEquals(new BitSet(), CompressedPostingList.intersect(List.of(of(1, 2), of())));
+    }
+
+}
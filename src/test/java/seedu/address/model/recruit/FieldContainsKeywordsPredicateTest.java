@@ -3,11 +3,15 @@ package seedu.address.model.recruit;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_PHONE;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -81,6 +85,29 @@ public class FieldContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void test_aliasContainsKeywords_returnsTrue() {
+        Recruit recruit = new Recruit(List.of(new Name("Alice Tan"), new Name("Ally")),
+                List.of(new Phone("91234567"), new Phone("87654321")),
+                List.of(new Email("alice@example.com"), new Email("ally@work.com")),
+                List.of(new Address("Main Street"), new Address("Clementi Ave 2")), Set.of());
+
+        assertTrue(new FieldContainsKeywordsPredicate(List.of("ally"), SEARCH_PREFIX_NAME).test(recruit));
+        assertTrue(new FieldContainsKeywordsPredicate(List.of("8765"), SEARCH_PREFIX_PHONE).test(recruit));
+        assertTrue(new FieldContainsKeywordsPredicate(List.of("work"), SEARCH_PREFIX_EMAIL).test(recruit));
+        assertTrue(new FieldContainsKeywordsPredicate(List.of("clementi"), SEARCH_PREFIX_ADDRESS).test(recruit));
+        assertFalse(new FieldContainsKeywordsPredicate(List.of("bob"), SEARCH_PREFIX_NAME).test(recruit));
+    }
+
+    @Test
+    public void test_accentedValuesAndKeywords_matchIgnoringAccents() {
+        Recruit recruit = new RecruitBuilder().withAddress("Rue de l'\u00c9glise, Montr\u00e9al").build();
+
+        assertTrue(new FieldContainsKeywordsPredicate(List.of("eglise"), SEARCH_PREFIX_ADDRESS).test(recruit));
+        assertTrue(new FieldContainsKeywordsPredicate(List.of("MONTR\u00c9AL"), SEARCH_PREFIX_ADDRESS).test(recruit));
+        assertFalse(new FieldContainsKeywordsPredicate(List.of("\u00e9glises"), SEARCH_PREFIX_ADDRESS).test(recruit));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
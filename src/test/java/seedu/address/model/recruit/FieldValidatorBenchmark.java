@@ -0,0 +1,73 @@
+package seedu.address.model.recruit;
+
+import static seedu.address.testutil.BenchmarkUtil.createRecruits;
+import static seedu.address.testutil.BenchmarkUtil.getRecruitCount;
+import static seedu.address.testutil.BenchmarkUtil.timeMillis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares the throughput of the field validators with that of matching the validation regexes they replace, on
+ * the fields of a synthetic address book, as validated when it is loaded.
+ */
+public class FieldValidatorBenchmark {
+
+    private static final int DEFAULT_RECRUIT_COUNT = 100_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    public static void main(String[] args) throws Exception {
+        int recruitCount = getRecruitCount(args, DEFAULT_RECRUIT_COUNT);
+        List<Recruit> recruits = createRecruits(recruitCount);
+        List<String> tags = new ArrayList<>();
+        recruits.forEach(recruit -> recruit.getTags().forEach(tag -> tags.add(tag.tagName)));
+
+        System.out.printf("%d recruits, validations per second (regex -> validator)%n", recruitCount);
+        compare("name:   ", getValues(recruits, recruit -> recruit.getName().fullName), Name.VALIDATION_REGEX,
+                Name::isValidName);
+        compare("phone:  ", getValues(recruits, recruit -> recruit.getPhone().value), Phone.VALIDATION_REGEX,
+                Phone::isValidPhone);
+        compare("email:  ", getValues(recruits, recruit -> recruit.getEmail().value), Email.VALIDATION_REGEX,
+                Email::isValidEmail);
+        compare("address:", getValues(recruits, recruit -> recruit.getAddress().value), Address.VALIDATION_REGEX,
+                Address::isValidAddress);
+        compare("tag:    ", tags, Tag.VALIDATION_REGEX, Tag::isValidTagName);
+    }
+
+    private static List<String> getValues(List<Recruit> recruits, Function<Recruit, String> field) {
+        List<String> values = new ArrayList<>(recruits.size());
+        recruits.forEach(recruit -> values.add(field.apply(recruit)));
+        return values;
+    }
+
+    private static void compare(String label, List<String> values, String regex, Predicate<String> validator)
+            throws Exception {
+        double regexRate = measure(values, value -> value.matches(regex));
+        double validatorRate = measure(values, validator);
+        System.out.printf("%s %,.0f -> %,.0f (%.1fx)%n", label, regexRate, validatorRate, validatorRate / regexRate);
+    }
+
+    /**
+     * Returns the number of {@code values} validated per second by {@code validator}.
+     */
+    private static double measure(List<String> values, Predicate<String> validator) throws Exception {
+        double millis = timeMillis(WARMUP_ROUNDS, MEASURED_ROUNDS, () -> validateAll(values, validator));
+        return values.size() / (millis / 1e3);
+    }
+
+    private static int validateAll(List<String> values, Predicate<String> validator) {
+        int validCount = 0;
+        for (String value : values) {
+            if (validator.test(value)) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+}
@@ -0,0 +1,114 @@
+package seedu.address.model.recruit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Checks that the hand-written field validators accept exactly the strings matched by the validation regexes they
+ * replace, on random strings and on random mutations of valid values.
+ */
+public class FieldValidatorDifferentialTest {
+
+    private static final int ROUNDS = 50_000;
+    private static final int MAX_LENGTH = 14;
+
+    // Characters on both sides of every boundary the regexes draw: letters, digits, the special characters of
+    // emails, whitespace, line terminators, non-ASCII letters and digits, and a surrogate pair.
+    private static final String ALPHABET = "aZm09_+.-@ \t\n\r\u000B\f\u0085\u2028\u2029\u00e9\u0661!#/,"
+            + "\ud83d\ude00";
+
+    private static final List<String> SEEDS = List.of("Alice Pauline", "94351253", "alice@example.com",
+            "a+b_c.d-e@sub-domain.example.co", "x@ab", "x@a-bc", "x@a-b.cd", "123, Jurong West Ave 6, #08-111",
+            "friends", "owesMoney");
+
+    private static void assertSameLanguage(String regex, Predicate<String> validator) {
+        Pattern pattern = Pattern.compile(regex);
+        Random random = new Random(regex.hashCode());
+        int accepted = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            String test = i % 2 == 0 ? randomString(random) : mutate(SEEDS.get(random.nextInt(SEEDS.size())), random);
+            boolean expected = pattern.matcher(test).matches();
+            assertEquals(expected, validator.test(test), "\"" + escape(test) + "\" against " + regex);
+            accepted += expected ? 1 : 0;
+        }
+        // the inputs must exercise both outcomes to be meaningful
+        assertTrue(accepted > 0 && accepted < ROUNDS, regex + " accepted " + accepted);
+    }
+
+    private static String randomString(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(MAX_LENGTH + 1);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+    private static String mutate(String seed, Random random) {
+        StringBuilder builder = new StringBuilder(seed);
+        int mutations = random.nextInt(3);
+        for (int i = 0; i < mutations; i++) {
+            int position = random.nextInt(builder.length() + 1);
+            char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            switch (random.nextInt(3)) {
+            case 0:
+                builder.insert(position, c);
+                break;
+            case 1:
+                if (position < builder.length()) {
+                    builder.deleteCharAt(position);
+                }
+                break;
+            default:
+                if (position < builder.length()) {
+                    builder.setCharAt(position, c);
+                }
+                break;
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String escape(String test) {
+        StringBuilder builder = new StringBuilder();
+        for (char c : test.toCharArray()) {
+            builder.append(c >= 0x20 && c < 0x7F ? String.valueOf(c) : String.format("\\u%04x", (int) c));
+        }
+        return builder.toString();
+    }
+
+    @Test
+    public void isValidName_sameLanguageAsRegex() {
+        assertSameLanguage(Name.VALIDATION_REGEX, Name::isValidName);
+    }
+
+    @Test
+    public void isValidPhone_sameLanguageAsRegex() {
+        assertSameLanguage(Phone.VALIDATION_REGEX, Phone::isValidPhone);
+    }
+
+    @Test
+    public void isValidEmail_sameLanguageAsRegex() {
+        assertSameLanguage(Email.VALIDATION_REGEX, Email::isValidEmail);
+    }
+
+    @Test
+    public void isValidAddress_sameLanguageAsRegex() {
+        assertSameLanguage(Address.VALIDATION_REGEX, Address::isValidAddress);
+    }
+
+    @Test
+    public void isValidTagName_sameLanguageAsRegex() {
+        assertSameLanguage(Tag.VALIDATION_REGEX, Tag::isValidTagName);
+    }
+
+}
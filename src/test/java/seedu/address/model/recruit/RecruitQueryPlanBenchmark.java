@@ -0,0 +1,51 @@
+package seedu.address.model.recruit;
+
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_TAG;
+import static seedu.address.testutil.BenchmarkUtil.createRecruits;
+import static seedu.address.testutil.BenchmarkUtil.getRecruitCount;
+import static seedu.address.testutil.BenchmarkUtil.timeMillis;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Compares the time taken to test every recruit against a find query compiled into a {@link RecruitQueryPlan} with
+ * the time taken by the uncompiled evaluation of the same query.
+ */
+public class RecruitQueryPlanBenchmark {
+
+    private static final int DEFAULT_RECRUIT_COUNT = 100_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 20;
+
+    public static void main(String[] args) throws Exception {
+        int recruitCount = getRecruitCount(args, DEFAULT_RECRUIT_COUNT);
+        List<Recruit> recruits = createRecruits(recruitCount);
+        // in the order the find command parser builds them, with the least selective field first
+        List<FieldContainsKeywordsPredicate> query = List.of(
+                new FieldContainsKeywordsPredicate(List.of("Recruit", "Number"), SEARCH_PREFIX_NAME),
+                new FieldContainsKeywordsPredicate(List.of("9001"), SEARCH_PREFIX_PHONE),
+                new FieldContainsKeywordsPredicate(List.of("Clementi"), SEARCH_PREFIX_ADDRESS),
+                new FieldContainsKeywordsPredicate(List.of("FAMILY"), SEARCH_PREFIX_TAG));
+
+        System.out.printf("%d recruits, %d matches%n", recruitCount, scan(RecruitQueryPlan.compile(query), recruits));
+        System.out.printf("stream chain:  %.2f ms per scan%n",
+                timeMillis(WARMUP_ROUNDS, MEASURED_ROUNDS, () -> scan(new StreamQueryPredicate(query), recruits)));
+        System.out.printf("compiled plan: %.2f ms per scan%n",
+                timeMillis(WARMUP_ROUNDS, MEASURED_ROUNDS, () -> scan(RecruitQueryPlan.compile(query), recruits)));
+    }
+
+    private static int scan(Predicate<Recruit> predicate, List<Recruit> recruits) {
+        int matches = 0;
+        for (Recruit recruit : recruits) {
+            if (predicate.test(recruit)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+}
@@ -0,0 +1,92 @@
+package seedu.address.model.recruit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_TAG;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalRecruits.ALICE;
+import static seedu.address.testutil.TypicalRecruits.BENSON;
+import static seedu.address.testutil.TypicalRecruits.getTypicalRecruits;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.Prefix;
+
+public class RecruitQueryPlanTest {
+
+    private static final List<List<FieldContainsKeywordsPredicate>> QUERIES = List.of(
+            List.of(),
+            List.of(field(SEARCH_PREFIX_NAME, "ALICE")),
+            List.of(field(SEARCH_PREFIX_NAME, "meier", "kurz"), field(SEARCH_PREFIX_TAG, "FRIEND")),
+            List.of(field(SEARCH_PREFIX_TAG, "friends"), field(SEARCH_PREFIX_NAME, "e"),
+                    field(SEARCH_PREFIX_PHONE, "9", "8")),
+            List.of(field(SEARCH_PREFIX_EMAIL, "@example"), field(SEARCH_PREFIX_ADDRESS, "Street", "ave")),
+            List.of(field(SEARCH_PREFIX_ADDRESS, "nowhere"), field(SEARCH_PREFIX_ID, ALICE.getID().toString())),
+            List.of(field(SEARCH_PREFIX_ID, BENSON.getID().toString(), ALICE.getID().toString())),
+            List.of(field(SEARCH_PREFIX_NAME), field(SEARCH_PREFIX_TAG, "friends")),
+            List.of(field(new Prefix("-x"), "alice")));
+
+    private static FieldContainsKeywordsPredicate field(Prefix prefix, String... keywords) {
+        return new FieldContainsKeywordsPredicate(Arrays.asList(keywords), prefix);
+    }
+
+    @Test
+    public void test_sameResultsAsStreamEvaluation() {
+        List<Recruit> recruits = new ArrayList<>(getTypicalRecruits());
+        recruits.add(new Recruit(List.of(new Name("Zed Kurz"), new Name("Alice Pauline")),
+                List.of(new Phone("81234567")), List.of(new Email("zed@example.org")),
+                List.of(new Address("Kurz Street")), Set.of()));
+
+        for (List<FieldContainsKeywordsPredicate> query : QUERIES) {
+            RecruitQueryPlan plan = RecruitQueryPlan.compile(query);
+            StreamQueryPredicate reference = new StreamQueryPredicate(query);
+            for (Recruit recruit : recruits) {
+                assertEquals(reference.test(recruit), plan.test(recruit), query + " on " + recruit);
+            }
+        }
+    }
+
+    @Test
+    public void compile_clausesOrderedByEstimatedCost() {
+        RecruitQueryPlan plan = RecruitQueryPlan.compile(List.of(field(SEARCH_PREFIX_ADDRESS, "street"),
+                field(SEARCH_PREFIX_NAME, "alice"), field(SEARCH_PREFIX_PHONE, "1", "2", "3"),
+                field(SEARCH_PREFIX_TAG, "friends"), field(SEARCH_PREFIX_ID, ALICE.getID().toString())));
+        assertEquals(List.of(SEARCH_PREFIX_ID, SEARCH_PREFIX_TAG, SEARCH_PREFIX_PHONE, SEARCH_PREFIX_NAME,
+                SEARCH_PREFIX_ADDRESS), plan.getEvaluationOrder());
+    }
+
+    @Test
+    public void compile_invalidId_onlyReorderedAroundIt() {
+        RecruitQueryPlan plan = RecruitQueryPlan.compile(List.of(field(SEARCH_PREFIX_ADDRESS, "street"),
+                field(SEARCH_PREFIX_NAME, "alice"), field(SEARCH_PREFIX_ID, "not an id"),
+                field(SEARCH_PREFIX_TAG, "friends"), field(SEARCH_PREFIX_PHONE, "1")));
+        assertEquals(List.of(SEARCH_PREFIX_NAME, SEARCH_PREFIX_ADDRESS, SEARCH_PREFIX_ID, SEARCH_PREFIX_PHONE,
+                SEARCH_PREFIX_TAG), plan.getEvaluationOrder());
+    }
+
+    @Test
+    public void test_invalidId_failsAsBeforeCompilation() {
+        RecruitQueryPlan plan = RecruitQueryPlan.compile(List.of(field(SEARCH_PREFIX_NAME, "alice"),
+                field(SEARCH_PREFIX_ID, ALICE.getID().toString(), "not an id")));
+        assertTrue(plan.test(ALICE));
+        // the name clause rejects BENSON before the invalid id is reached
+        assertFalse(plan.test(BENSON));
+
+        RecruitQueryPlan idFirstPlan = RecruitQueryPlan.compile(List.of(
+                field(SEARCH_PREFIX_ID, BENSON.getID().toString(), "not an id"), field(SEARCH_PREFIX_NAME, "alice")));
+        assertFalse(idFirstPlan.test(BENSON));
+        assertThrows(IllegalArgumentException.class, () -> idFirstPlan.test(ALICE));
+    }
+
+}
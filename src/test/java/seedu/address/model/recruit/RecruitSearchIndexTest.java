@@ -0,0 +1,199 @@
+package seedu.address.model.recruit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_TAG;
+import static seedu.address.testutil.TypicalRecruits.ALICE;
+import static seedu.address.testutil.TypicalRecruits.AMY;
+import static seedu.address.testutil.TypicalRecruits.BENSON;
+import static seedu.address.testutil.TypicalRecruits.getTypicalRecruits;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.RecruitBuilder;
+
+public class RecruitSearchIndexTest {
+
+    private static final List<NestedOrPredicate> PREDICATES = List.of(
+            new NestedOrPredicate(),
+            new NestedOrPredicate(field(SEARCH_PREFIX_NAME, "alice")),
+            new NestedOrPredicate(field(SEARCH_PREFIX_NAME, "MEIER")),
+            new NestedOrPredicate(field(SEARCH_PREFIX_NAME, "e")),
+            new NestedOrPredicate(field(SEARCH_PREFIX_NAME, "ce pau")),
+            new NestedOrPredicate(field(SEARCH_PREFIX_NAME, "alice pauline", "kurz")),
+            new NestedOrPredicate(field(SEARCH_PREFIX_NAME, "nobody")),
+            new NestedOrPredicate(field(SEARCH_PREFIX_NAME, "ll", "z")),
+            new NestedOrPredicate(field(SEARCH_PREFIX_NAME, "ne k")),
+            new NestedOrPredicate(field(SEARCH_PREFIX_PHONE, "9435")),
+            new NestedOrPredicate(field(SEARCH_PREFIX_PHONE, "765", "24")),
+            new NestedOrPredicate(field(SEARCH_PREFIX_EMAIL, "@example.com")),
+            new NestedOrPredicate(field(SEARCH_PREFIX_ADDRESS, "ave", "street")),
+            new NestedOrPredicate(field(SEARCH_PREFIX_ADDRESS, "#0")),
+            new NestedOrPredicate(field(SEARCH_PREFIX_TAG, "FRIEND")),
+            new NestedOrPredicate(field(SEARCH_PREFIX_ID, ALICE.getID().toString(), AMY.getID().toString())),
+            new NestedOrPredicate(field(SEARCH_PREFIX_NAME, "meier"), field(SEARCH_PREFIX_TAG, "friends")),
+            new NestedOrPredicate(field(SEARCH_PREFIX_NAME, "meier"), field(SEARCH_PREFIX_PHONE, "nothing")));
+
+    private static FieldContainsKeywordsPredicate field(Prefix prefix, String... keywords) {
+        return new FieldContainsKeywordsPredicate(Arrays.asList(keywords), prefix);
+    }
+
+    private static RecruitSearchIndex createIndex(List<Recruit> recruits) {
+        RecruitSearchIndex index = new RecruitSearchIndex();
+        recruits.forEach(index::add);
+        return index;
+    }
+
+    private static void assertSameResults(RecruitSearchIndex index, List<Recruit> recruits) {
+        for (NestedOrPredicate predicate : PREDICATES) {
+            Predicate<Recruit> indexed = index.lookup(predicate);
+            for (Recruit recruit : recruits) {
+                assertEquals(predicate.test(recruit), indexed.test(recruit), predicate + " on " + recruit);
+            }
+        }
+    }
+
+    @Test
+    public void lookup_typicalRecruits_sameResultsAsPredicate() {
+        assertSameResults(createIndex(getTypicalRecruits()), getTypicalRecruits());
+    }
+
+    @Test
+    public void lookup_shortValues_sameResultsAsPredicate() {
+        List<Recruit> recruits = List.of(
+                new RecruitBuilder().withName("Al").withPhone("123").build(),
+                new RecruitBuilder().withName("Bo Lee").withPhone("456").withTags("a").build());
+        assertSameResults(createIndex(recruits), recruits);
+        assertTrue(createIndex(recruits).lookup(new NestedOrPredicate(field(SEARCH_PREFIX_NAME, "l")))
+                .test(recruits.get(0)));
+    }
+
+    @Test
+    public void lookup_aliases_sameResultsAsPredicate() {
+        Recruit withAliases = new Recruit(List.of(new Name("Alice Pauline"), new Name("Alice P"), new Name("Zed")),
+                List.of(new Phone("94351253"), new Phone("94351254")),
+                List.of(new Email("alice@example.com"), new Email("zed@street.com")),
+                List.of(new Address("Ave 6"), new Address("Kurz Street")), Set.of());
+        List<Recruit> recruits = new ArrayList<>(getTypicalRecruits());
+        recruits.add(withAliases);
+        RecruitSearchIndex index = createIndex(recruits);
+
+        assertSameResults(index, recruits);
+        assertTrue(index.lookup(new NestedOrPredicate(field(SEARCH_PREFIX_NAME, "zed"),
+                field(SEARCH_PREFIX_ADDRESS, "kurz"))).test(withAliases));
+
+        // removing a recruit removes the postings of all its aliases
+        index.remove(withAliases);
+        recruits.remove(withAliases);
+        assertSameResults(index, recruits);
+    }
+
+    @Test
+    public void lookup_accentedValues_matchedIgnoringAccents() {
+        Recruit accented = new RecruitBuilder().withAddress("Rue de l'\u00c9glise").build();
+        RecruitSearchIndex index = createIndex(List.of(accented));
+        assertTrue(index.lookup(new NestedOrPredicate(field(SEARCH_PREFIX_ADDRESS, "EGLISE"))).test(accented));
+        assertTrue(index.lookup(new NestedOrPredicate(field(SEARCH_PREFIX_ADDRESS, "\u00e9g"))).test(accented));
+    }
+
+    @Test
+    public void lookup_afterEditAndRemove_sameResultsAsPredicate() {
+        List<Recruit> recruits = new ArrayList<>(getTypicalRecruits());
+        RecruitSearchIndex index = createIndex(recruits);
+
+        Recruit editedAlice = new RecruitBuilder(ALICE).withName("Zed Alpha").withTags("colleagues").build();
+        index.remove(ALICE);
+        index.add(editedAlice);
+        recruits.set(recruits.indexOf(ALICE), editedAlice);
+        index.remove(BENSON);
+        recruits.remove(BENSON);
+        index.add(AMY);
+        recruits.add(AMY);
+
+        assertSameResults(index, recruits);
+        assertFalse(index.lookup(new NestedOrPredicate(field(SEARCH_PREFIX_NAME, "alice"))).test(editedAlice));
+    }
+
+    @Test
+    public void lookup_afterManyEdits_sameResultsAsPredicate() {
+        List<Recruit> recruits = new ArrayList<>(getTypicalRecruits());
+        RecruitSearchIndex index = createIndex(recruits);
+        NestedOrPredicate alicePredicate = new NestedOrPredicate(field(SEARCH_PREFIX_NAME, "alice"));
+        Predicate<Recruit> indexedBeforeEdits = index.lookup(alicePredicate);
+
+        // every edit empties a slot, so the index is rebuilt along the way
+        Recruit alice = ALICE;
+        for (int i = 0; i < 3000; i++) {
+            Recruit editedAlice = new RecruitBuilder(ALICE).withName(i % 2 == 0 ? "Zed Alpha" : "Alice Pauline")
+                    .build();
+            index.remove(alice);
+            index.add(editedAlice);
+            alice = editedAlice;
+        }
+        recruits.set(recruits.indexOf(ALICE), alice);
+
+        assertSameResults(index, recruits);
+        for (Recruit recruit : recruits) {
+            assertEquals(alicePredicate.test(recruit), indexedBeforeEdits.test(recruit));
+        }
+    }
+
+    @Test
+    public void lookup_recruitAddedAfterLookup_testedWithPredicate() {
+        RecruitSearchIndex index = createIndex(getTypicalRecruits());
+        Predicate<Recruit> indexed = index.lookup(new NestedOrPredicate(field(SEARCH_PREFIX_NAME, "amy")));
+        assertTrue(indexed.test(AMY));
+
+        index.add(AMY);
+        assertTrue(indexed.test(AMY));
+
+        Recruit editedAmy = new RecruitBuilder(AMY).withName("Bob Choo").build();
+        index.remove(AMY);
+        index.add(editedAmy);
+        assertFalse(indexed.test(editedAmy));
+    }
+
+    @Test
+    public void countTags_sameAsCountingTagSets() {
+        List<Recruit> recruits = new ArrayList<>(getTypicalRecruits());
+        RecruitSearchIndex index = createIndex(recruits);
+        Recruit editedBenson = new RecruitBuilder(BENSON).withTags("colleagues", "owesMoney").build();
+        index.remove(BENSON);
+        index.add(editedBenson);
+        recruits.set(recruits.indexOf(BENSON), editedBenson);
+
+        assertEquals(Map.of(new Tag("friends"), 2, new Tag("owesMoney"), 1, new Tag("colleagues"), 1),
+                index.countTags(recruits));
+        assertEquals(Map.of(new Tag("owesMoney"), 1, new Tag("colleagues"), 1),
+                index.countTags(List.of(editedBenson)));
+
+        // recruits that are not indexed are not counted
+        assertEquals(Map.of(), index.countTags(List.of(AMY, BENSON)));
+    }
+
+    @Test
+    public void lookup_afterClear_onlyNewRecruitsMatched() {
+        RecruitSearchIndex index = createIndex(getTypicalRecruits());
+        index.clear();
+        index.add(AMY);
+        Predicate<Recruit> indexed = index.lookup(new NestedOrPredicate());
+        assertTrue(indexed.test(AMY));
+        assertSameResults(index, List.of(AMY));
+    }
+
+}
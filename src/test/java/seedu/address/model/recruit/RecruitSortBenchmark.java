@@ -0,0 +1,43 @@
+package seedu.address.model.recruit;
+
+import static seedu.address.testutil.BenchmarkUtil.createRecruits;
+import static seedu.address.testutil.BenchmarkUtil.getRecruitCount;
+import static seedu.address.testutil.BenchmarkUtil.timeMillis;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.recruit.RecruitSortOrder.Criterion;
+import seedu.address.model.recruit.RecruitSortOrder.Field;
+
+/**
+ * Compares the time taken to sort recruits with {@link RecruitSortOrder#sort(List)}, which collates every field once,
+ * with the time taken to sort them with {@link RecruitSortOrder#toComparator()}, which collates on every comparison.
+ */
+public class RecruitSortBenchmark {
+
+    private static final int DEFAULT_RECRUIT_COUNT = 100_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        int recruitCount = getRecruitCount(args, DEFAULT_RECRUIT_COUNT);
+        List<Recruit> recruits = createRecruits(recruitCount);
+        Collections.shuffle(recruits, new Random(recruitCount));
+        RecruitSortOrder sortOrder = new RecruitSortOrder(List.of(
+                new Criterion(Field.TAG_COUNT, true), new Criterion(Field.NAME, false),
+                new Criterion(Field.EMAIL, false)));
+
+        System.out.printf("%d recruits, sorted by %s%n", recruitCount, sortOrder.getDescription());
+        System.out.printf("comparator: %.2f ms per sort%n", timeMillis(WARMUP_ROUNDS, MEASURED_ROUNDS, () -> {
+            List<Recruit> sorted = new ArrayList<>(recruits);
+            sorted.sort(sortOrder.toComparator());
+            return sorted.get(0);
+        }));
+        System.out.printf("sort keys:  %.2f ms per sort%n",
+                timeMillis(WARMUP_ROUNDS, MEASURED_ROUNDS, () -> sortOrder.sort(recruits).get(0)));
+    }
+
+}
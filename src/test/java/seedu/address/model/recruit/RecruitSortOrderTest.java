@@ -0,0 +1,112 @@
+package seedu.address.model.recruit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.recruit.RecruitSortOrder.Criterion;
+import seedu.address.model.recruit.RecruitSortOrder.Field;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.RecruitBuilder;
+
+public class RecruitSortOrderTest {
+
+    // more recruits than Arrays.parallelSort sorts sequentially
+    private static final int RECRUIT_COUNT = 20_000;
+
+    private static final String[] NAMES = {"alice", "Alice", "bob", "Bob", "Carl Kurz", "carl", "Zed"};
+    private static final String[] TAGS = {"friends", "owesMoney", "colleagues"};
+
+    private static List<Recruit> randomRecruits(Random random) {
+        List<Recruit> recruits = new ArrayList<>();
+        for (int i = 0; i < RECRUIT_COUNT; i++) {
+            Set<Tag> tags = new HashSet<>();
+            for (int j = random.nextInt(TAGS.length + 1); j > 0; j--) {
+                tags.add(Tag.of(TAGS[random.nextInt(TAGS.length)]));
+            }
+            recruits.add(new Recruit(new UUID(0, i), new Name(NAMES[random.nextInt(NAMES.length)]),
+                    new Phone(String.valueOf(100 + random.nextInt(50))),
+                    new Email(NAMES[random.nextInt(NAMES.length)].charAt(0) + "@example.com"),
+                    Address.of("Block " + random.nextInt(20)), tags));
+        }
+        return recruits;
+    }
+
+    private static RecruitSortOrder sortOrder(Criterion... criteria) {
+        return new RecruitSortOrder(List.of(criteria));
+    }
+
+    @Test
+    public void constructor_invalidCriteria_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RecruitSortOrder(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> sortOrder(
+                new Criterion(Field.NAME, false), new Criterion(Field.NAME, true)));
+    }
+
+    @Test
+    public void fromJson_invalidCriteria_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonUtil.fromJsonString("{}", RecruitSortOrder.class));
+        assertThrows(IOException.class, () -> JsonUtil.fromJsonString("{\"criteria\":[]}", RecruitSortOrder.class));
+        assertThrows(IOException.class, () -> JsonUtil.fromJsonString(
+                "{\"criteria\":[{\"field\":null}]}", RecruitSortOrder.class));
+        assertThrows(IOException.class, () -> JsonUtil.fromJsonString(
+                "{\"criteria\":[{\"field\":\"NAME\"},{\"field\":\"NAME\"}]}", RecruitSortOrder.class));
+    }
+
+    @Test
+    public void fromJson_toJsonString_equalSortOrder() throws Exception {
+        RecruitSortOrder sortOrder = sortOrder(new Criterion(Field.TAG_COUNT, true), new Criterion(Field.NAME, false));
+        assertEquals(sortOrder, JsonUtil.fromJsonString(JsonUtil.toJsonString(sortOrder), RecruitSortOrder.class));
+    }
+
+    @Test
+    public void sort_randomRecruits_sameAsStableSortWithComparator() {
+        Random random = new Random(19);
+        List<Recruit> recruits = randomRecruits(random);
+        List<RecruitSortOrder> sortOrders = List.of(RecruitSortOrder.BY_NAME,
+                sortOrder(new Criterion(Field.TAG_COUNT, true), new Criterion(Field.NAME, false)),
+                sortOrder(new Criterion(Field.EMAIL, true), new Criterion(Field.PHONE, false)),
+                sortOrder(new Criterion(Field.ADDRESS, false), new Criterion(Field.PHONE, true),
+                        new Criterion(Field.NAME, true), new Criterion(Field.TAG_COUNT, false)));
+
+        for (RecruitSortOrder sortOrder : sortOrders) {
+            List<Recruit> expected = new ArrayList<>(recruits);
+            expected.sort(sortOrder.toComparator());
+            assertEquals(expected, sortOrder.sort(recruits), sortOrder.getDescription());
+        }
+    }
+
+    @Test
+    public void sort_mixedCaseNames_sortedAlphabetically() {
+        Recruit lowerCase = new RecruitBuilder().withName("alice").build();
+        Recruit upperCase = new RecruitBuilder().withName("Bob").build();
+        assertEquals(List.of(lowerCase, upperCase), RecruitSortOrder.BY_NAME.sort(List.of(upperCase, lowerCase)));
+    }
+
+    @Test
+    public void sort_recruitWithoutName_sortedFirst() {
+        Recruit named = new RecruitBuilder().withName("Alice").build();
+        Recruit unnamed = new Recruit(UUID.randomUUID(), List.of(), named.getPhones(), named.getEmails(),
+                named.getAddresses(), Set.of());
+        assertEquals(List.of(unnamed, named), RecruitSortOrder.BY_NAME.sort(List.of(named, unnamed)));
+    }
+
+    @Test
+    public void getDescription() {
+        assertEquals("name from A to Z", RecruitSortOrder.BY_NAME.getDescription());
+        assertEquals("tag count from most to fewest, then by phone from 0 to 9, then by address from Z to A",
+                sortOrder(new Criterion(Field.TAG_COUNT, true), new Criterion(Field.PHONE, false),
+                        new Criterion(Field.ADDRESS, true)).getDescription());
+    }
+
+}
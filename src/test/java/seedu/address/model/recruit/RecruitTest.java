@@ -2,6 +2,7 @@ package seedu.address.model.recruit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -12,8 +13,11 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalRecruits.ALICE;
 import static seedu.address.testutil.TypicalRecruits.BOB;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.RecruitBuilder;
 
 public class RecruitTest {
@@ -24,6 +28,15 @@ public class RecruitTest {
         assertThrows(UnsupportedOperationException.class, () -> recruit.getTags().remove(0));
     }
 
+    @Test
+    public void getSortedTags_sortedByNameAndReused() {
+        Recruit recruit = new RecruitBuilder().withTags("zebra", "Apple", "mango").build();
+        List<Tag> sortedTags = recruit.getSortedTags();
+        assertEquals(List.of(new Tag("Apple"), new Tag("mango"), new Tag("zebra")), sortedTags);
+        assertSame(sortedTags, recruit.getSortedTags());
+        assertThrows(UnsupportedOperationException.class, () -> sortedTags.remove(0));
+    }
+
     @Test
     public void isSameRecruit() {
         // same object -> returns true
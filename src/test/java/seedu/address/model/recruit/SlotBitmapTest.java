@@ -0,0 +1,103 @@
+package seedu.address.model.recruit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class SlotBitmapTest {
+
+    private static BitSet toBitSet(SlotBitmap bitmap) {
+        BitSet bitSet = new BitSet();
+        bitmap.addTo(bitSet);
+        return bitSet;
+    }
+
+    @Test
+    public void addRemove_sparseValues_sameAsBitSet() {
+        SlotBitmap bitmap = new SlotBitmap();
+        BitSet expected = new BitSet();
+        for (int value : new int[] {5, 0, 70000, 3, 5, 65535, 65536, 200000}) {
+            bitmap.add(value);
+            expected.set(value);
+        }
+        bitmap.remove(3);
+        expected.clear(3);
+        bitmap.remove(4);
+
+        assertEquals(expected, toBitSet(bitmap));
+        assertEquals(expected.cardinality(), bitmap.cardinality());
+        assertTrue(bitmap.contains(65536));
+        assertFalse(bitmap.contains(3));
+        assertFalse(bitmap.contains(131072));
+    }
+
+    @Test
+    public void addRemove_denseValues_sameAsBitSet() {
+        SlotBitmap bitmap = new SlotBitmap();
+        BitSet expected = new BitSet();
+        Random random = new Random(42);
+        // enough values for the first containers to become bitmaps and back
+        for (int i = 0; i < 3 * SlotBitmap.MAX_ARRAY_SIZE; i++) {
+            int value = random.nextInt(1 << 17);
+            bitmap.add(value);
+            expected.set(value);
+        }
+        assertEquals(expected, toBitSet(bitmap));
+        assertEquals(expected.cardinality(), bitmap.cardinality());
+
+        for (int value = expected.nextSetBit(0); value >= 0; value = expected.nextSetBit(value + 1)) {
+            if (random.nextInt(4) != 0) {
+                bitmap.remove(value);
+                expected.clear(value);
+            }
+        }
+        assertEquals(expected, toBitSet(bitmap));
+        assertEquals(expected.cardinality(), bitmap.cardinality());
+    }
+
+    @Test
+    public void remove_allValues_isEmpty() {
+        SlotBitmap bitmap = new SlotBitmap();
+        for (int i = 0; i <= SlotBitmap.MAX_ARRAY_SIZE; i++) {
+            bitmap.add(i * 2);
+        }
+        for (int i = 0; i <= SlotBitmap.MAX_ARRAY_SIZE; i++) {
+            bitmap.remove(i * 2);
+        }
+        assertTrue(bitmap.isEmpty());
+        assertTrue(toBitSet(bitmap).isEmpty());
+    }
+
+    @Test
+    public void intersectionCardinality() {
+        SlotBitmap sparse = new SlotBitmap();
+        SlotBitmap dense = new SlotBitmap();
+        BitSet sparseValues = new BitSet();
+        BitSet denseValues = new BitSet();
+        BitSet other = new BitSet();
+        Random random = new Random(7);
+        for (int i = 0; i < 2 * SlotBitmap.MAX_ARRAY_SIZE; i++) {
+            int value = random.nextInt(1 << 17);
+            dense.add(value);
+            denseValues.set(value);
+            if (i % 50 == 0) {
+                sparse.add(value);
+                sparseValues.set(value);
+            }
+            other.set(random.nextInt(100000));
+        }
+
+        long[] words = other.toLongArray();
+        sparseValues.and(other);
+        denseValues.and(other);
+        assertEquals(sparseValues.cardinality(), sparse.intersectionCardinality(words));
+        assertEquals(denseValues.cardinality(), dense.intersectionCardinality(words));
+        assertEquals(0, dense.intersectionCardinality(new long[0]));
+    }
+
+}
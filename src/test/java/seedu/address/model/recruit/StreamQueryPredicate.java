@@ -0,0 +1,67 @@
+package seedu.address.model.recruit;
+
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.SEARCH_PREFIX_TAG;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * The uncompiled evaluation of a find query: every field predicate is tested in the given order, lowercasing its
+ * keywords and parsing its ids for every recruit.
+ * Used as the reference that {@link RecruitQueryPlan} must agree with, and as the baseline it is benchmarked against.
+ * It only ignores case, so it agrees with the plan on ASCII values and keywords only.
+ */
+class StreamQueryPredicate implements Predicate<Recruit> {
+
+    private final List<FieldContainsKeywordsPredicate> predicates;
+
+    StreamQueryPredicate(List<FieldContainsKeywordsPredicate> predicates) {
+        this.predicates = predicates;
+    }
+
+    @Override
+    public boolean test(Recruit recruit) {
+        return predicates.stream().allMatch(predicate -> test(predicate, recruit));
+    }
+
+    private static boolean test(FieldContainsKeywordsPredicate predicate, Recruit recruit) {
+        List<String> keywords = predicate.getKeywords();
+        if (predicate.getPrefix().equals(SEARCH_PREFIX_ID)) {
+            return keywords.stream()
+                    .anyMatch(keyword -> recruit.getID().equals(UUID.fromString(keyword)));
+        } else if (predicate.getPrefix().equals(SEARCH_PREFIX_NAME)) {
+            return keywords.stream()
+                    .anyMatch(keyword -> recruit.getNames().stream()
+                            .anyMatch(name -> containsIgnoreCase(name.fullName, keyword)));
+        } else if (predicate.getPrefix().equals(SEARCH_PREFIX_EMAIL)) {
+            return keywords.stream()
+                    .anyMatch(keyword -> recruit.getEmails().stream()
+                            .anyMatch(email -> containsIgnoreCase(email.value, keyword)));
+        } else if (predicate.getPrefix().equals(SEARCH_PREFIX_PHONE)) {
+            return keywords.stream()
+                    .anyMatch(keyword -> recruit.getPhones().stream()
+                            .anyMatch(phone -> containsIgnoreCase(phone.value, keyword)));
+        } else if (predicate.getPrefix().equals(SEARCH_PREFIX_ADDRESS)) {
+            return keywords.stream()
+                    .anyMatch(keyword -> recruit.getAddresses().stream()
+                            .anyMatch(address -> containsIgnoreCase(address.value, keyword)));
+        } else if (predicate.getPrefix().equals(SEARCH_PREFIX_TAG)) {
+            return keywords.stream()
+                    .anyMatch(keyword -> recruit.getTags().stream()
+                            .anyMatch(tag -> containsIgnoreCase(tag.tagName, keyword)));
+        } else {
+            return false;
+        }
+    }
+
+    private static boolean containsIgnoreCase(String value, String keyword) {
+        return value.toLowerCase().contains(keyword.toLowerCase());
+    }
+
+}
@@ -8,13 +8,19 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalRecruits.ALICE;
 import static seedu.address.testutil.TypicalRecruits.BOB;
+import static seedu.address.testutil.TypicalRecruits.CARL;
+import static seedu.address.testutil.TypicalRecruits.DANIEL;
+import static seedu.address.testutil.TypicalRecruits.ELLE;
+import static seedu.address.testutil.TypicalRecruits.FIONA;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.recruit.exceptions.DuplicateRecruitException;
 import seedu.address.model.recruit.exceptions.RecruitNotFoundException;
 import seedu.address.testutil.RecruitBuilder;
@@ -102,6 +108,16 @@ public class UniqueRecruitListTest {
         assertEquals(expectedUniqueRecruitList, uniqueRecruitList);
     }
 
+    @Test
+    public void setRecruit_editedRecruitHasDifferentIdentity_releasesOldIdentity() {
+        uniqueRecruitList.add(ALICE);
+        uniqueRecruitList.setRecruit(ALICE, BOB);
+        assertFalse(uniqueRecruitList.contains(ALICE));
+        assertTrue(uniqueRecruitList.contains(BOB));
+        uniqueRecruitList.add(ALICE);
+        assertTrue(uniqueRecruitList.contains(ALICE));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniqueRecruitList.add(ALICE);
@@ -127,6 +143,39 @@ public class UniqueRecruitListTest {
         assertEquals(expectedUniqueRecruitList, uniqueRecruitList);
     }
 
+    @Test
+    public void remove_existingRecruit_allowsReAdding() {
+        uniqueRecruitList.add(ALICE);
+        uniqueRecruitList.remove(ALICE);
+        assertFalse(uniqueRecruitList.contains(ALICE));
+        uniqueRecruitList.add(ALICE);
+        assertTrue(uniqueRecruitList.contains(ALICE));
+    }
+
+    @Test
+    public void removeAndSetRecruit_afterEarlierRemovals_changeRightPositions() {
+        Recruit amy = new RecruitBuilder().withName("Amy").build();
+        Recruit carl = new RecruitBuilder().withName("Carl").build();
+        Recruit dan = new RecruitBuilder().withName("Dan").build();
+        uniqueRecruitList.addAll(List.of(ALICE, amy, BOB, carl));
+        uniqueRecruitList.add(dan);
+
+        uniqueRecruitList.remove(amy);
+        Recruit editedCarl = new RecruitBuilder(carl).withPhone("999").build();
+        uniqueRecruitList.setRecruit(carl, editedCarl);
+        uniqueRecruitList.remove(ALICE);
+        uniqueRecruitList.add(amy);
+        uniqueRecruitList.remove(dan);
+        assertEquals(List.of(BOB, editedCarl, amy), uniqueRecruitList.asUnmodifiableObservableList());
+
+        // positions are recomputed after a sort order is cleared
+        uniqueRecruitList.sort(RecruitSortOrder.BY_NAME);
+        uniqueRecruitList.clearSortOrder();
+        uniqueRecruitList.remove(BOB);
+        uniqueRecruitList.setRecruit(amy, ALICE);
+        assertEquals(List.of(ALICE, editedCarl), uniqueRecruitList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueRecruitList.setRecruits((UniqueRecruitList) null));
@@ -162,6 +211,159 @@ public class UniqueRecruitListTest {
         assertThrows(DuplicateRecruitException.class, () -> uniqueRecruitList.setRecruits(listWithDuplicateRecruits));
     }
 
+    @Test
+    public void setPersons_listWithDuplicateIdentity_listUnchanged() {
+        uniqueRecruitList.add(BOB);
+        Recruit editedAlice = new RecruitBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        List<Recruit> listWithDuplicateRecruits = Arrays.asList(ALICE, editedAlice);
+        assertThrows(DuplicateRecruitException.class, () -> uniqueRecruitList.setRecruits(listWithDuplicateRecruits));
+        assertTrue(uniqueRecruitList.contains(BOB));
+        assertFalse(uniqueRecruitList.contains(ALICE));
+    }
+
+    @Test
+    public void setPersons_list_replacesIdentities() {
+        uniqueRecruitList.add(ALICE);
+        uniqueRecruitList.setRecruits(Collections.singletonList(BOB));
+        assertFalse(uniqueRecruitList.contains(ALICE));
+        assertTrue(uniqueRecruitList.contains(BOB));
+    }
+
+    @Test
+    public void sort_unsortedList_sortsList() {
+        uniqueRecruitList.add(BOB);
+        uniqueRecruitList.add(ALICE);
+        uniqueRecruitList.sort(RecruitSortOrder.BY_NAME);
+        assertEquals(List.of(ALICE, BOB), uniqueRecruitList.asUnmodifiableObservableList());
+        assertTrue(uniqueRecruitList.contains(BOB));
+    }
+
+    @Test
+    public void sort_laterChanges_keptSorted() {
+        Recruit amy = new RecruitBuilder().withName("Amy").build();
+        Recruit carl = new RecruitBuilder().withName("Carl").build();
+        Recruit dan = new RecruitBuilder().withName("Dan").build();
+        uniqueRecruitList.add(dan);
+        uniqueRecruitList.add(amy);
+        uniqueRecruitList.sort(RecruitSortOrder.BY_NAME);
+
+        // added recruits are placed in order, after recruits equal in sort order
+        Recruit otherCarl = new RecruitBuilder().withName("Carl").build();
+        uniqueRecruitList.add(carl);
+        uniqueRecruitList.add(otherCarl);
+        uniqueRecruitList.add(BOB);
+        assertEquals(List.of(amy, BOB, carl, otherCarl, dan), uniqueRecruitList.asUnmodifiableObservableList());
+
+        // edited recruit that stays in order keeps its place
+        Recruit editedCarl = new RecruitBuilder(carl).withPhone("999").build();
+        uniqueRecruitList.setRecruit(carl, editedCarl);
+        assertEquals(List.of(amy, BOB, editedCarl, otherCarl, dan),
+                uniqueRecruitList.asUnmodifiableObservableList());
+
+        // edited recruit that moves is placed in order
+        Recruit editedAmy = new RecruitBuilder(amy).withName("Zed").build();
+        uniqueRecruitList.setRecruit(amy, editedAmy);
+        assertEquals(List.of(BOB, editedCarl, otherCarl, dan, editedAmy),
+                uniqueRecruitList.asUnmodifiableObservableList());
+
+        // removed recruit among recruits equal in sort order
+        uniqueRecruitList.remove(otherCarl);
+        assertEquals(List.of(BOB, editedCarl, dan, editedAmy), uniqueRecruitList.asUnmodifiableObservableList());
+
+        // replacing recruits sorts them
+        uniqueRecruitList.setRecruits(List.of(dan, BOB, amy));
+        assertEquals(List.of(amy, BOB, dan), uniqueRecruitList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void clearSortOrder_laterAdd_appended() {
+        uniqueRecruitList.add(BOB);
+        uniqueRecruitList.sort(RecruitSortOrder.BY_NAME);
+        uniqueRecruitList.clearSortOrder();
+        uniqueRecruitList.add(ALICE);
+        assertEquals(List.of(BOB, ALICE), uniqueRecruitList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_unsortedList_appendedInSingleChange() {
+        uniqueRecruitList.add(BOB);
+        List<Integer> changeCount = new ArrayList<>();
+        uniqueRecruitList.asUnmodifiableObservableList().addListener((ListChangeListener<Recruit>) change ->
+                changeCount.add(1));
+        uniqueRecruitList.addAll(List.of(CARL, ALICE));
+        assertEquals(List.of(BOB, CARL, ALICE), uniqueRecruitList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount.size());
+        assertTrue(uniqueRecruitList.contains(ALICE));
+    }
+
+    @Test
+    public void addAll_sortedList_mergedInOrder() {
+        Recruit carl = new RecruitBuilder().withName("Carl").build();
+        Recruit otherCarl = new RecruitBuilder().withName("Carl").build();
+        uniqueRecruitList.add(carl);
+        uniqueRecruitList.add(BOB);
+        uniqueRecruitList.sort(RecruitSortOrder.BY_NAME);
+
+        // added recruits are placed after recruits equal in sort order
+        Recruit dan = new RecruitBuilder().withName("Dan").build();
+        uniqueRecruitList.addAll(List.of(dan, otherCarl, ALICE));
+        assertEquals(List.of(ALICE, BOB, carl, otherCarl, dan), uniqueRecruitList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_sortedList_insertedWhereTheyBelong() {
+        uniqueRecruitList.add(BOB);
+        uniqueRecruitList.add(DANIEL);
+        uniqueRecruitList.sort(RecruitSortOrder.BY_NAME);
+        List<String> changes = new ArrayList<>();
+        uniqueRecruitList.asUnmodifiableObservableList().addListener((ListChangeListener<Recruit>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ": -" + change.getRemovedSize() + " +" + change.getAddedSize());
+            }
+        });
+
+        uniqueRecruitList.addAll(List.of(ELLE, CARL, ALICE, FIONA));
+        assertEquals(List.of(ALICE, BOB, CARL, DANIEL, ELLE, FIONA),
+                uniqueRecruitList.asUnmodifiableObservableList());
+        assertEquals(List.of("2: -0 +2", "1: -0 +1", "0: -0 +1"), changes);
+        assertTrue(uniqueRecruitList.contains(CARL));
+    }
+
+    @Test
+    public void addAll_sortedListManyInsertionPoints_mergedInOrder() {
+        List<Recruit> existing = new ArrayList<>();
+        List<Recruit> toAdd = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Recruit recruit = new RecruitBuilder().withName(String.format("Recruit %03d", i)).build();
+            (i % 2 == 0 ? existing : toAdd).add(recruit);
+        }
+        uniqueRecruitList.setRecruits(existing);
+        uniqueRecruitList.sort(RecruitSortOrder.BY_NAME);
+
+        uniqueRecruitList.addAll(toAdd);
+        List<Recruit> expected = new ArrayList<>(existing);
+        expected.addAll(toAdd);
+        assertEquals(RecruitSortOrder.BY_NAME.sort(expected), uniqueRecruitList.asUnmodifiableObservableList());
+        for (Recruit recruit : toAdd) {
+            uniqueRecruitList.remove(recruit);
+        }
+        assertEquals(existing, uniqueRecruitList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_duplicateRecruit_listUnchanged() {
+        uniqueRecruitList.add(ALICE);
+
+        // recruit already in list
+        assertThrows(DuplicateRecruitException.class, () -> uniqueRecruitList.addAll(List.of(BOB, ALICE)));
+        assertEquals(List.of(ALICE), uniqueRecruitList.asUnmodifiableObservableList());
+
+        // recruit twice in batch
+        assertThrows(DuplicateRecruitException.class, () -> uniqueRecruitList.addAll(List.of(BOB, BOB)));
+        assertEquals(List.of(ALICE), uniqueRecruitList.asUnmodifiableObservableList());
+        assertFalse(uniqueRecruitList.contains(BOB));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,39 @@
+package seedu.address.storage;
+
+import static seedu.address.testutil.BenchmarkUtil.createRecruits;
+import static seedu.address.testutil.BenchmarkUtil.getRecruitCount;
+import static seedu.address.testutil.BenchmarkUtil.timeMillis;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.model.AddressBook;
+
+/**
+ * Compares the load time and file size of the json and binary address book storages.
+ */
+public class AddressBookStorageBenchmark {
+
+    private static final int DEFAULT_RECRUIT_COUNT = 10_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    public static void main(String[] args) throws Exception {
+        int recruitCount = getRecruitCount(args, DEFAULT_RECRUIT_COUNT);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setRecruits(createRecruits(recruitCount));
+
+        Path folder = Files.createTempDirectory("storage-benchmark");
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(folder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(folder.resolve("addressbook.bin"));
+        jsonStorage.saveAddressBook(addressBook);
+        binaryStorage.saveAddressBook(addressBook);
+
+        System.out.printf("%d recruits%n", recruitCount);
+        System.out.printf("json:   %,d bytes, %.2f ms per load%n", Files.size(jsonStorage.getAddressBookFilePath()),
+                timeMillis(WARMUP_ROUNDS, MEASURED_ROUNDS, jsonStorage::readAddressBook));
+        System.out.printf("binary: %,d bytes, %.2f ms per load%n", Files.size(binaryStorage.getAddressBookFilePath()),
+                timeMillis(WARMUP_ROUNDS, MEASURED_ROUNDS, binaryStorage::readAddressBook));
+    }
+
+}
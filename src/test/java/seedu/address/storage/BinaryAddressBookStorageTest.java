@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalRecruits.ALICE;
+import static seedu.address.testutil.TypicalRecruits.BENSON;
+import static seedu.address.testutil.TypicalRecruits.HOON;
+import static seedu.address.testutil.TypicalRecruits.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.recruit.Recruit;
+import seedu.address.model.tag.Tag;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.dat.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.dat")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+
+        original.addRecruit(HOON);
+        original.removeRecruit(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_sharedTag_decodedOnce() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        Tag friendsOfAlice = findTag(readBack, ALICE, "friends");
+        Tag friendsOfBenson = findTag(readBack, BENSON, "friends");
+        assertSame(friendsOfAlice, friendsOfBenson);
+    }
+
+    private Tag findTag(ReadOnlyAddressBook addressBook, Recruit recruit, String tagName) {
+        return addressBook.getRecruitList().stream()
+                .filter(r -> r.getID().equals(recruit.getID()))
+                .flatMap(r -> r.getTags().stream())
+                .filter(tag -> tag.tagName.equals(tagName))
+                .findFirst().get();
+    }
+
+    @Test
+    public void readAddressBook_corruptedByte_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, BinaryAddressBookStorage.HEADER_SIZE - 1));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void decode_unsupportedVersion_throwsIllegalValueException() {
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryAddressBookStorage.HEADER_SIZE)
+                .putInt(BinaryAddressBookStorage.MAGIC).putInt(BinaryAddressBookStorage.VERSION + 1);
+        buffer.rewind();
+        assertThrows(IllegalValueException.class, () ->
+                BinaryAddressBookStorage.decode(buffer));
+    }
+
+    @Test
+    public void importAndExportJson_roundTrip_success() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path exportedFilePath = testFolder.resolve("exported.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath));
+        storage.importFromJson(jsonFilePath);
+        assertEquals(original, storage.readAddressBook().get());
+        assertTrue(Files.size(storage.getAddressBookFilePath()) < Files.size(jsonFilePath));
+
+        storage.exportToJson(exportedFilePath);
+        assertEquals(Files.readString(jsonFilePath), Files.readString(exportedFilePath));
+    }
+
+}
@@ -0,0 +1,283 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalRecruits.ALICE;
+import static seedu.address.testutil.TypicalRecruits.BENSON;
+import static seedu.address.testutil.TypicalRecruits.CARL;
+import static seedu.address.testutil.TypicalRecruits.HOON;
+import static seedu.address.testutil.TypicalRecruits.IDA;
+import static seedu.address.testutil.TypicalRecruits.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.recruit.Recruit;
+import seedu.address.model.recruit.RecruitSortOrder;
+import seedu.address.testutil.RecruitBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JournaledAddressBookStorage createStorage(Path filePath, long compactionThresholdBytes) {
+        return new JournaledAddressBookStorage(filePath, compactionThresholdBytes, Runnable::run);
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.json");
+        assertFalse(createStorage(filePath, Long.MAX_VALUE).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        Path filePath = testFolder.resolve("first.json");
+        AddressBook original = getTypicalAddressBook();
+        createStorage(filePath, Long.MAX_VALUE).saveAddressBook(original);
+
+        assertEquals(original, JsonAddressBookStreamReader.read(filePath));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterRead_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("changes.json");
+        AddressBook original = getTypicalAddressBook();
+        createStorage(filePath, Long.MAX_VALUE).saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook modified = new AddressBook(storage.readAddressBook().get());
+        Recruit editedBenson = new RecruitBuilder(BENSON).withPhone("99999999").build();
+        modified.addRecruit(HOON);
+        modified.setRecruit(BENSON, editedBenson);
+        modified.removeRecruit(ALICE);
+        storage.saveAddressBook(modified);
+
+        // snapshot is left untouched, and each change takes one journal record
+        assertEquals(snapshot, Files.readString(filePath));
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        assertEquals(3, Files.readAllLines(journalPath).size());
+
+        modified.addRecruit(IDA);
+        storage.saveAddressBook(modified);
+        assertEquals(4, Files.readAllLines(journalPath).size());
+
+        assertEquals(modified, createStorage(filePath, Long.MAX_VALUE).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_journalNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("unchanged.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook(original));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_reordered_rewritesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("reordered.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addRecruit(BENSON);
+        addressBook.addRecruit(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addRecruit(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.setRecruits(List.of(HOON, ALICE, BENSON));
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(addressBook, JsonAddressBookStreamReader.read(filePath));
+        assertEquals(addressBook, createStorage(filePath, Long.MAX_VALUE).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_sorted_journalsSortOrderAndInserts() throws Exception {
+        Path filePath = testFolder.resolve("sorted.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addRecruit(CARL);
+        addressBook.addRecruit(ALICE);
+        storage.saveAddressBook(addressBook);
+        String snapshot = Files.readString(filePath);
+
+        addressBook.sortRecruits(RecruitSortOrder.BY_NAME);
+        addressBook.addRecruit(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        // the sort order and the insert into the middle of the list each take one journal record
+        assertEquals(snapshot, Files.readString(filePath));
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, createStorage(filePath, Long.MAX_VALUE).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_sortOrderCleared_rewritesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("unsorted.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addRecruit(CARL);
+        addressBook.addRecruit(ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.sortRecruits(RecruitSortOrder.BY_NAME);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.clearSortOrder();
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(addressBook, JsonAddressBookStreamReader.read(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_appendFails_nextSaveWritesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("failed.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        Files.createDirectory(journalPath);
+        addressBook.addRecruit(HOON);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(addressBook));
+
+        // retrying the same save must not find the failed change already persisted
+        Files.delete(journalPath);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, JsonAddressBookStreamReader.read(filePath));
+        assertEquals(addressBook, createStorage(filePath, Long.MAX_VALUE).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compacted() throws Exception {
+        Path filePath = testFolder.resolve("compacted.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, 1);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addRecruit(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(addressBook, JsonAddressBookStreamReader.read(filePath));
+
+        // later changes are journaled against the compacted snapshot
+        addressBook.removeRecruit(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, createStorage(filePath, 1).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_tornJournalRecord_recoversPrecedingRecords() throws Exception {
+        Path filePath = testFolder.resolve("torn.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addRecruit(HOON);
+        storage.saveAddressBook(addressBook);
+
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        Files.write(journalPath, "{\"op\":\"put\",\"recruit\":{\"id\":\"".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, createStorage(filePath, Long.MAX_VALUE).readAddressBook().get());
+        // recovery folds the readable records into the snapshot and drops the torn journal
+        assertFalse(Files.exists(journalPath));
+        assertEquals(addressBook, JsonAddressBookStreamReader.read(filePath));
+    }
+
+    @Test
+    public void readAddressBook_tornCompactingJournal_replaysLiveJournal() throws Exception {
+        Path filePath = testFolder.resolve("tornCompacting.json");
+        Queue<Runnable> compactions = new ArrayDeque<>();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1, compactions::add);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addRecruit(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addRecruit(IDA);
+        storage.saveAddressBook(addressBook);
+
+        Path compactingJournalPath = filePath.resolveSibling(filePath.getFileName() + ".journal.compacting");
+        Files.write(compactingJournalPath, "{\"op\":\"put\",\"recruit\":{\"id\":\"".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, createStorage(filePath, Long.MAX_VALUE).readAddressBook().get());
+        assertFalse(Files.exists(compactingJournalPath));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_compactionSupersededBySnapshot_compactionSkipped() throws Exception {
+        Path filePath = testFolder.resolve("stale.json");
+        Queue<Runnable> compactions = new ArrayDeque<>();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1, compactions::add);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addRecruit(HOON);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.setRecruits(List.of(HOON, ALICE));
+        storage.saveAddressBook(addressBook);
+        compactions.poll().run();
+
+        assertEquals(addressBook, JsonAddressBookStreamReader.read(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_earlierCompactionFailed_journalsFoldedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("refold.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, 1);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // a directory in place of the temporary snapshot file makes the compaction fail
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        Files.createDirectory(tempFilePath);
+        addressBook.addRecruit(HOON);
+        storage.saveAddressBook(addressBook);
+        Path compactingJournalPath = filePath.resolveSibling(filePath.getFileName() + ".journal.compacting");
+        assertTrue(Files.exists(compactingJournalPath));
+
+        Files.deleteIfExists(tempFilePath);
+        addressBook.addRecruit(IDA);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(compactingJournalPath));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(addressBook, JsonAddressBookStreamReader.read(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("own.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertTrue(Files.exists(otherFilePath));
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, storage.readAddressBook(otherFilePath).get());
+    }
+
+}
@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.recruit.Name;
+import seedu.address.model.recruit.Phone;
+import seedu.address.model.recruit.Recruit;
+import seedu.address.testutil.RecruitBuilder;
+
+public class JsonAdaptedRecruitDecoderTest {
+
+    private static final int BATCH_SIZE = JsonAdaptedRecruitDecoder.SEQUENTIAL_THRESHOLD * 8;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void shutDownPool() {
+        pool.shutdownNow();
+    }
+
+    private static Recruit recruit(int i) {
+        return new RecruitBuilder().withID(new UUID(0, i).toString()).withName("Recruit " + i)
+                .withPhone(String.valueOf(10_000_000 + i)).build();
+    }
+
+    private static List<Recruit> recruits(int count) {
+        List<Recruit> recruits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            recruits.add(recruit(i));
+        }
+        return recruits;
+    }
+
+    private static List<JsonAdaptedRecruit> adapt(List<Recruit> recruits) {
+        return new ArrayList<>(recruits.stream().map(JsonAdaptedRecruit::new).toList());
+    }
+
+    private static JsonAdaptedRecruit invalidRecruit(Recruit recruit, String name, String phone) {
+        return new JsonAdaptedRecruit(recruit.getID().toString(), List.of(name), List.of(phone),
+                List.of(recruit.getEmails().get(0).value), List.of(recruit.getAddresses().get(0).value), List.of());
+    }
+
+    @Test
+    public void decode_smallBatch_returnsRecruitsInOrder() throws Exception {
+        List<Recruit> recruits = recruits(JsonAdaptedRecruitDecoder.SEQUENTIAL_THRESHOLD);
+        assertEquals(recruits, new JsonAdaptedRecruitDecoder(pool).decode(adapt(recruits)));
+    }
+
+    @Test
+    public void decode_largeBatch_returnsRecruitsInOrder() throws Exception {
+        List<Recruit> recruits = recruits(BATCH_SIZE);
+        assertEquals(recruits, new JsonAdaptedRecruitDecoder(pool).decode(adapt(recruits)));
+    }
+
+    @Test
+    public void decode_severalInvalidRecruits_throwsFirstInvalidRecruit() {
+        List<Recruit> recruits = recruits(BATCH_SIZE);
+        List<JsonAdaptedRecruit> batch = adapt(recruits);
+        // the later invalid recruits fall in other halves of the batch, which may be converted first
+        batch.set(BATCH_SIZE - 1, invalidRecruit(recruits.get(BATCH_SIZE - 1), "R@chel", "91234567"));
+        batch.set(BATCH_SIZE / 2 + 1, invalidRecruit(recruits.get(BATCH_SIZE / 2 + 1), "R@chel", "91234567"));
+        batch.set(BATCH_SIZE / 2 - 1, invalidRecruit(recruits.get(BATCH_SIZE / 2 - 1), "Rachel", "+651234"));
+
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                new JsonAdaptedRecruitDecoder(pool).decode(batch));
+    }
+
+    @Test
+    public void decode_duplicateBeforeInvalidRecruit_throwsDuplicateRecruit() {
+        List<Recruit> recruits = recruits(BATCH_SIZE);
+        recruits.set(BATCH_SIZE / 4, recruits.get(1));
+        List<JsonAdaptedRecruit> batch = adapt(recruits);
+        batch.set(BATCH_SIZE - 1, invalidRecruit(recruits.get(BATCH_SIZE - 1), "R@chel", "91234567"));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_RECRUIT, () ->
+                new JsonAdaptedRecruitDecoder(pool).decode(batch));
+    }
+
+    @Test
+    public void decode_invalidRecruitBeforeDuplicate_throwsInvalidRecruit() {
+        List<Recruit> recruits = recruits(BATCH_SIZE);
+        recruits.set(BATCH_SIZE - 1, recruits.get(1));
+        List<JsonAdaptedRecruit> batch = adapt(recruits);
+        batch.set(BATCH_SIZE / 4, invalidRecruit(recruits.get(BATCH_SIZE / 4), "R@chel", "91234567"));
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                new JsonAdaptedRecruitDecoder(pool).decode(batch));
+    }
+
+    @Test
+    public void decode_duplicateAcrossBatches_throwsDuplicateRecruit() throws Exception {
+        List<Recruit> recruits = recruits(BATCH_SIZE);
+        JsonAdaptedRecruitDecoder decoder = new JsonAdaptedRecruitDecoder(pool);
+        decoder.decode(adapt(recruits.subList(0, BATCH_SIZE / 2)));
+
+        List<JsonAdaptedRecruit> secondBatch = adapt(recruits.subList(BATCH_SIZE / 2, BATCH_SIZE));
+        secondBatch.set(secondBatch.size() - 1, new JsonAdaptedRecruit(recruits.get(0)));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_RECRUIT, () ->
+                decoder.decode(secondBatch));
+    }
+
+}
@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalRecruits.IDA;
 import static seedu.address.testutil.TypicalRecruits.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +88,37 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_truncatedFileWithPreviousGeneration_previousGenerationLoaded() throws Exception {
+        Path filePath = testFolder.resolve("TruncatedAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false, true);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        AddressBook modified = new AddressBook(original);
+        modified.addRecruit(HOON);
+        jsonAddressBookStorage.saveAddressBook(modified);
+        assertEquals(original, JsonAddressBookStreamReader.read(FileUtil.getPreviousGenerationPath(filePath)));
+
+        // a file cut short is rejected as a whole, and the previous generation is loaded in its place
+        String content = Files.readString(filePath);
+        Files.writeString(filePath, content.substring(0, content.lastIndexOf(']') + 1));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFileWithoutPreviousGeneration_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TruncatedAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        jsonAddressBookStorage.saveAddressBook(new AddressBook());
+        assertFalse(Files.exists(FileUtil.getPreviousGenerationPath(filePath)));
+
+        String content = Files.readString(filePath);
+        Files.writeString(filePath, content.substring(0, content.length() - 1));
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
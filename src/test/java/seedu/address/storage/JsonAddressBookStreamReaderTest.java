@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.RecruitBuilder;
+import seedu.address.testutil.TypicalRecruits;
+
+public class JsonAddressBookStreamReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_RECRUITS_FILE = TEST_DATA_FOLDER.resolve("typicalRecruitsAddressBook.json");
+    private static final Path INVALID_RECRUIT_FILE = TEST_DATA_FOLDER.resolve("invalidRecruitAddressBook.json");
+    private static final Path DUPLICATE_RECRUIT_FILE = TEST_DATA_FOLDER.resolve("duplicateRecruitAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalRecruitsFile_success() throws Exception {
+        AddressBook addressBookFromFile = JsonAddressBookStreamReader.read(TYPICAL_RECRUITS_FILE);
+        assertEquals(TypicalRecruits.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void read_invalidRecruitFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookStreamReader.read(INVALID_RECRUIT_FILE));
+    }
+
+    @Test
+    public void read_duplicateRecruits_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_RECRUIT, ()
+            -> JsonAddressBookStreamReader.read(DUPLICATE_RECRUIT_FILE));
+    }
+
+    @Test
+    public void read_moreRecruitsThanOneChunk_success() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i <= JsonAddressBookStreamReader.CHUNK_SIZE; i++) {
+            addressBook.addRecruit(new RecruitBuilder().withID(new UUID(0, i).toString()).build());
+        }
+        Path filePath = testFolder.resolve("manyRecruits.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        assertEquals(addressBook, JsonAddressBookStreamReader.read(filePath));
+    }
+
+    @Test
+    public void read_invalidRecruitBeforeMalformedJson_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("invalidThenTruncated.json");
+        String invalidRecruit = Files.readString(INVALID_RECRUIT_FILE);
+        Files.writeString(filePath, invalidRecruit.substring(0, invalidRecruit.indexOf("} ]") + 1));
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookStreamReader.read(filePath));
+    }
+
+    @Test
+    public void read_unknownFieldsAndNoRecruits_returnsEmptyAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("unknownFields.json");
+        Files.writeString(filePath, "{ \"version\": 2, \"meta\": { \"recruits\": [ 1 ] } }");
+        assertEquals(new AddressBook(), JsonAddressBookStreamReader.read(filePath));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.json");
+        String typicalRecruits = Files.readString(TYPICAL_RECRUITS_FILE);
+        Files.writeString(filePath, typicalRecruits.substring(0, typicalRecruits.length() / 2));
+        assertThrows(IOException.class, () -> JsonAddressBookStreamReader.read(filePath));
+    }
+
+    @Test
+    public void read_topLevelArray_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("array.json");
+        Files.writeString(filePath, "[]");
+        assertThrows(IOException.class, () -> JsonAddressBookStreamReader.read(filePath));
+    }
+
+}
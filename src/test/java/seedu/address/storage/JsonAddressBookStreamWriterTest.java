@@ -0,0 +1,49 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalRecruits.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookStreamWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_prettyOutput_matchesSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("pretty.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStreamWriter.write(original, filePath, false);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), Files.readString(filePath));
+    }
+
+    @Test
+    public void write_compactOutput_readBackSuccessfully() throws Exception {
+        Path filePath = testFolder.resolve("compact.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStreamWriter.write(original, filePath, true);
+
+        String content = Files.readString(filePath);
+        assertFalse(content.contains("\n"));
+        assertTrue(content.length() < JsonUtil.toJsonString(new JsonSerializableAddressBook(original)).length());
+        assertEquals(original, JsonAddressBookStreamReader.read(filePath));
+    }
+
+    @Test
+    public void write_emptyAddressBook_readBackSuccessfully() throws Exception {
+        Path filePath = testFolder.resolve("empty.json");
+        JsonAddressBookStreamWriter.write(new AddressBook(), filePath, true);
+        assertEquals(new AddressBook(), JsonAddressBookStreamReader.read(filePath));
+    }
+
+}
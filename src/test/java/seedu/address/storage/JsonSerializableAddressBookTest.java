@@ -1,16 +1,23 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.recruit.Address;
+import seedu.address.model.recruit.Recruit;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.RecruitBuilder;
 import seedu.address.testutil.TypicalRecruits;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +51,28 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_repeatedTagsAndAddresses_sharedInstances() throws Exception {
+        String[] tagNames = {"interviewed", "shortlisted", "rejected"};
+        List<Recruit> recruits = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            recruits.add(new RecruitBuilder().withName("Recruit " + i).withAddress("Blk " + (i % 10) + " Clementi Ave")
+                    .withTags(tagNames[i % tagNames.length]).build());
+        }
+        AddressBook source = new AddressBook();
+        source.setRecruits(recruits);
+        // round trip through json, as when the data file is loaded
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(source));
+        AddressBook loaded = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+
+        for (Recruit recruit : loaded.getRecruitList()) {
+            for (Tag tag : recruit.getTags()) {
+                assertSame(Tag.of(tag.tagName), tag);
+            }
+            for (Address address : recruit.getAddresses()) {
+                assertSame(Address.of(address.value), address);
+            }
+        }
+    }
+
 }
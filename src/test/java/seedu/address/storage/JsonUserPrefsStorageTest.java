@@ -7,6 +7,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,9 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.recruit.RecruitSortOrder;
+import seedu.address.model.recruit.RecruitSortOrder.Criterion;
+import seedu.address.model.recruit.RecruitSortOrder.Field;
 
 public class JsonUserPrefsStorageTest {
 
@@ -70,6 +74,13 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_invalidRecruitSortOrder_noSortOrderUsed() throws DataLoadingException {
+        UserPrefs expected = getTypicalUserPrefs();
+        UserPrefs actual = readUserPrefs("InvalidSortOrderUserPrefs.json").get();
+        assertEquals(expected, actual);
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
@@ -120,4 +131,20 @@ public class JsonUserPrefsStorageTest {
         assertEquals(original, readBack);
     }
 
+    @Test
+    public void saveUserPrefs_recruitSortOrder_readBack() throws DataLoadingException, IOException {
+        UserPrefs original = new UserPrefs();
+        RecruitSortOrder sortOrder = new RecruitSortOrder(List.of(
+                new Criterion(Field.TAG_COUNT, true), new Criterion(Field.EMAIL, false)));
+        original.setRecruitSortOrder(sortOrder);
+
+        JsonUserPrefsStorage jsonUserPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("SortedPrefs.json"));
+        jsonUserPrefsStorage.saveUserPrefs(original);
+        assertEquals(Optional.of(sortOrder), jsonUserPrefsStorage.readUserPrefs().get().getRecruitSortOrder());
+
+        original.clearRecruitSortOrder();
+        jsonUserPrefsStorage.saveUserPrefs(original);
+        assertEquals(Optional.empty(), jsonUserPrefsStorage.readUserPrefs().get().getRecruitSortOrder());
+    }
+
 }
@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalRecruits.ALICE;
+import static seedu.address.testutil.TypicalRecruits.AMY;
+import static seedu.address.testutil.TypicalRecruits.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalRecruits.getTypicalRecruits;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.recruit.Recruit;
+import seedu.address.testutil.BenchmarkUtil;
+
+public class MappedAddressBookTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path saveTypicalAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        return filePath;
+    }
+
+    @Test
+    public void open_validFile_recruitsDecodedOnlyWhenAccessed() throws Exception {
+        MappedAddressBook addressBook = MappedAddressBook.open(saveTypicalAddressBook());
+        assertEquals(getTypicalRecruits().size(), addressBook.getRecruitList().size());
+        assertEquals(0, addressBook.getCachedRecruitCount());
+
+        assertEquals(getTypicalRecruits().get(2), addressBook.getRecruitList().get(2));
+        assertEquals(1, addressBook.getCachedRecruitCount());
+        assertSame(addressBook.getRecruitList().get(2), addressBook.getRecruitList().get(2));
+
+        assertEquals(getTypicalRecruits(), new ArrayList<>(addressBook.getRecruitList()));
+        assertEquals(getTypicalAddressBook(), new AddressBook(addressBook));
+    }
+
+    @Test
+    public void open_smallCache_cachedRecruitsBounded() throws Exception {
+        MappedAddressBook addressBook = MappedAddressBook.open(saveTypicalAddressBook(), 2);
+        assertEquals(getTypicalRecruits(), new ArrayList<>(addressBook.getRecruitList()));
+        assertEquals(2, addressBook.getCachedRecruitCount());
+    }
+
+    @Test
+    public void open_manyRecruits_onlyAccessedRecruitsDecoded() throws Exception {
+        List<Recruit> recruits = BenchmarkUtil.createRecruits(10000);
+        Path filePath = testFolder.resolve("many.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(() -> FXCollections.observableArrayList(recruits));
+
+        MappedAddressBook addressBook = MappedAddressBook.open(filePath);
+        assertEquals(recruits.size(), addressBook.getRecruitList().size());
+        assertEquals(recruits.get(9999), addressBook.getRecruitList().get(9999));
+        assertEquals(recruits.get(5000), addressBook.getRecruit(recruits.get(5000).getID()).get());
+        assertEquals(2, addressBook.getCachedRecruitCount());
+    }
+
+    @Test
+    public void getRecruit() throws Exception {
+        MappedAddressBook addressBook = MappedAddressBook.open(saveTypicalAddressBook());
+        assertEquals(ALICE, addressBook.getRecruit(ALICE.getID()).get());
+        assertFalse(addressBook.getRecruit(AMY.getID()).isPresent());
+        assertEquals(1, addressBook.getCachedRecruitCount());
+    }
+
+    @Test
+    public void open_emptyAddressBook_noRecruits() throws Exception {
+        Path filePath = testFolder.resolve("empty.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+        MappedAddressBook addressBook = MappedAddressBook.open(filePath);
+        assertEquals(0, addressBook.getRecruitList().size());
+        assertFalse(addressBook.getRecruit(ALICE.getID()).isPresent());
+    }
+
+    @Test
+    public void getRecruitList_modify_throwsUnsupportedOperationException() throws Exception {
+        MappedAddressBook addressBook = MappedAddressBook.open(saveTypicalAddressBook());
+        assertThrows(UnsupportedOperationException.class, () -> addressBook.getRecruitList().add(AMY));
+        assertThrows(UnsupportedOperationException.class, () -> addressBook.getRecruitList().remove(0));
+    }
+
+    @Test
+    public void open_duplicateRecruits_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("duplicate.bin");
+        Recruit[] recruits = {ALICE, ALICE};
+        new BinaryAddressBookStorage(filePath).saveAddressBook(() ->
+                FXCollections.observableArrayList(recruits));
+        assertThrows(IllegalValueException.class, () -> MappedAddressBook.open(filePath));
+    }
+
+    @Test
+    public void open_corruptedFile_throwsIllegalValueException() throws Exception {
+        Path filePath = saveTypicalAddressBook();
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+        assertThrows(IllegalValueException.class, () -> MappedAddressBook.open(filePath));
+    }
+
+    @Test
+    public void exportToJson_mappedRecruits_matchesJsonStorage() throws Exception {
+        Path filePath = saveTypicalAddressBook();
+        Path jsonFilePath = testFolder.resolve("exported.json");
+        Path expectedFilePath = testFolder.resolve("expected.json");
+        new BinaryAddressBookStorage(filePath).exportToJson(jsonFilePath);
+        new JsonAddressBookStorage(expectedFilePath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(Files.readString(expectedFilePath), Files.readString(jsonFilePath));
+    }
+
+}
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalRecruits.ALICE;
+import static seedu.address.testutil.TypicalRecruits.BENSON;
+import static seedu.address.testutil.TypicalRecruits.getTypicalRecruits;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.RecruitCsvImporter;
+import seedu.address.model.recruit.Address;
+import seedu.address.model.recruit.Email;
+import seedu.address.model.recruit.Name;
+import seedu.address.model.recruit.Phone;
+import seedu.address.model.recruit.Recruit;
+import seedu.address.storage.RecruitExporter.Format;
+
+public class RecruitExporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void formatOf_extension_matchedInAnyCase() {
+        assertEquals(Optional.of(Format.CSV), Format.of(Paths.get("data", "recruits.CSV")));
+        assertEquals(Optional.of(Format.JSON_LINES), Format.of(Paths.get("recruits.jsonl")));
+        assertEquals(Optional.empty(), Format.of(Paths.get("recruits.json")));
+        assertEquals(Optional.empty(), Format.of(Paths.get("csv")));
+    }
+
+    @Test
+    public void export_csv_readBackByImporter() throws Exception {
+        Path file = testFolder.resolve("recruits.csv");
+        RecruitExporter.Result result = RecruitExporter.export(getTypicalRecruits(), file, Format.CSV);
+
+        assertEquals(getTypicalRecruits().size(), result.getRowCount());
+        assertEquals(String.join(",", RecruitExporter.CSV_HEADER), Files.readAllLines(file).get(0));
+        assertEquals(getTypicalRecruits(), new RecruitCsvImporter(recruit -> false).importFrom(file).getRecruits());
+    }
+
+    @Test
+    public void export_csvWithAliases_readBackByImporter() throws Exception {
+        Path file = testFolder.resolve("aliases.csv");
+        Recruit aliceWithAliases = new Recruit(ALICE.getID(), List.of(ALICE.getName(), new Name("Ally")),
+                List.of(ALICE.getPhone(), new Phone("91234567")), List.of(ALICE.getEmail(), new Email("a@b.com")),
+                List.of(new Address("Blk 1; #01-01"), new Address("C:\\home\\"), ALICE.getAddress()),
+                ALICE.getTags());
+        RecruitExporter.export(List.of(aliceWithAliases, BENSON), file, Format.CSV);
+
+        assertEquals(List.of(aliceWithAliases, BENSON),
+                new RecruitCsvImporter(recruit -> false).importFrom(file).getRecruits());
+    }
+
+    @Test
+    public void export_jsonLines_oneRecruitPerLine() throws Exception {
+        Path file = testFolder.resolve("recruits.jsonl");
+        Recruit aliceWithTwoNames = new Recruit(ALICE.getID(), List.of(ALICE.getName(), BENSON.getName()),
+                ALICE.getPhones(), ALICE.getEmails(), ALICE.getAddresses(), ALICE.getTags());
+        RecruitExporter.Result result = RecruitExporter.export(List.of(aliceWithTwoNames, BENSON), file,
+                Format.JSON_LINES);
+
+        assertEquals(2, result.getRowCount());
+        List<Recruit> readBack = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            readBack.add(JsonUtil.fromJsonString(line, JsonAdaptedRecruit.class).toModelType());
+        }
+        assertEquals(List.of(aliceWithTwoNames, BENSON), readBack);
+    }
+
+    @Test
+    public void export_noRecruits_onlyHeader() throws Exception {
+        Path csvFile = testFolder.resolve("empty.csv");
+        assertEquals(0, RecruitExporter.export(List.of(), csvFile, Format.CSV).getRowCount());
+        assertEquals(List.of(String.join(",", RecruitExporter.CSV_HEADER)), Files.readAllLines(csvFile));
+
+        Path jsonLinesFile = testFolder.resolve("empty.jsonl");
+        RecruitExporter.export(List.of(), jsonLinesFile, Format.JSON_LINES);
+        assertEquals("", Files.readString(jsonLinesFile));
+    }
+
+    @Test
+    public void export_failure_previousExportUntouched() throws Exception {
+        Path file = testFolder.resolve("recruits.csv");
+        RecruitExporter.export(List.of(ALICE), file, Format.CSV);
+        String previousExport = Files.readString(file);
+
+        Iterable<Recruit> failingRecruits = () -> {
+            throw new IllegalStateException();
+        };
+        assertThrows(IllegalStateException.class, () -> RecruitExporter.export(failingRecruits, file, Format.CSV));
+        assertEquals(previousExport, Files.readString(file));
+        assertFalse(Files.exists(testFolder.resolve("recruits.csv.tmp")));
+    }
+
+    @Test
+    public void export_directoryAsFile_throwsIoException() {
+        assertThrows(IOException.class, () -> RecruitExporter.export(List.of(ALICE), testFolder, Format.CSV));
+    }
+
+}
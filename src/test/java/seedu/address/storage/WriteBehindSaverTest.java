@@ -0,0 +1,206 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalRecruits.ALICE;
+import static seedu.address.testutil.TypicalRecruits.BENSON;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindSaverTest {
+
+    private final RecordingAddressBookStorage storage = new RecordingAddressBookStorage();
+    private final Queue<Runnable> queuedTasks = new ArrayDeque<>();
+    private final WriteBehindSaver saver = new WriteBehindSaver(storage, queuedTasks::add);
+
+    @Test
+    public void requestSave_burstOfRequests_savesLatestSnapshotOnce() {
+        AddressBook addressBook = new AddressBook();
+        saver.requestSave(addressBook);
+        addressBook.addRecruit(ALICE);
+        saver.requestSave(addressBook);
+        addressBook.addRecruit(BENSON);
+        saver.requestSave(addressBook);
+
+        assertEquals(1, queuedTasks.size());
+        runQueuedTasks();
+        assertEquals(List.of(addressBook), storage.savedAddressBooks);
+    }
+
+    @Test
+    public void requestSave_laterModification_doesNotAffectSnapshot() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addRecruit(ALICE);
+        saver.requestSave(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.addRecruit(BENSON);
+
+        runQueuedTasks();
+        assertEquals(List.of(expected), storage.savedAddressBooks);
+    }
+
+    @Test
+    public void flush_pendingRequest_savesSnapshot() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addRecruit(ALICE);
+        WriteBehindSaver inlineSaver = new WriteBehindSaver(storage, Runnable::run);
+        inlineSaver.requestSave(addressBook);
+        inlineSaver.flush();
+        assertEquals(List.of(addressBook), storage.savedAddressBooks);
+    }
+
+    @Test
+    public void throwIfSaveFailed_failedSave_throwsOnce() throws Exception {
+        storage.failure = new IOException("dummy IO exception");
+        saver.requestSave(new AddressBook());
+        runQueuedTasks();
+
+        assertThrows(IOException.class, "dummy IO exception", saver::throwIfSaveFailed);
+        saver.throwIfSaveFailed();
+    }
+
+    @Test
+    public void flush_previousSaveFailed_retriesSnapshot() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addRecruit(ALICE);
+        storage.failure = new IOException("dummy IO exception");
+        saver.requestSave(addressBook);
+        runQueuedTasks();
+
+        storage.failure = null;
+        saver.flush();
+        assertEquals(List.of(addressBook), storage.savedAddressBooks);
+    }
+
+    @Test
+    public void setSaveStatusListener_failureThenSuccess_reportsBoth() {
+        List<Optional<IOException>> statuses = new ArrayList<>();
+        saver.setSaveStatusListener(statuses::add);
+        IOException failure = new IOException("dummy IO exception");
+        storage.failure = failure;
+        saver.requestSave(new AddressBook());
+        runQueuedTasks();
+        assertEquals(List.of(Optional.of(failure)), statuses);
+
+        storage.failure = null;
+        saver.requestSave(new AddressBook());
+        runQueuedTasks();
+        saver.requestSave(new AddressBook());
+        runQueuedTasks();
+        assertEquals(List.of(Optional.of(failure), Optional.empty()), statuses);
+    }
+
+    @Test
+    public void requestSave_saveFails_retriesWithBackoff() {
+        List<Long> retryDelays = new ArrayList<>();
+        Queue<Runnable> retries = new ArrayDeque<>();
+        WriteBehindSaver retryingSaver = new WriteBehindSaver(storage, queuedTasks::add, (task, delayMillis) -> {
+            retryDelays.add(delayMillis);
+            retries.add(task);
+        });
+        AddressBook addressBook = new AddressBook();
+        addressBook.addRecruit(ALICE);
+        storage.failure = new IOException("dummy IO exception");
+        retryingSaver.requestSave(addressBook);
+        runQueuedTasks();
+        retries.poll().run();
+        runQueuedTasks();
+        assertEquals(List.of(WriteBehindSaver.INITIAL_RETRY_DELAY_MILLIS,
+                WriteBehindSaver.INITIAL_RETRY_DELAY_MILLIS * 2), retryDelays);
+
+        storage.failure = null;
+        retries.poll().run();
+        runQueuedTasks();
+        assertEquals(List.of(addressBook), storage.savedAddressBooks);
+        assertEquals(0, retries.size());
+    }
+
+    @Test
+    public void requestSave_retrySupersededByNewerSnapshot_doesNotSaveAgain() {
+        Queue<Runnable> retries = new ArrayDeque<>();
+        WriteBehindSaver retryingSaver = new WriteBehindSaver(storage, queuedTasks::add, (task, delayMillis) ->
+                retries.add(task));
+        storage.failure = new IOException("dummy IO exception");
+        retryingSaver.requestSave(new AddressBook());
+        runQueuedTasks();
+
+        storage.failure = null;
+        AddressBook addressBook = new AddressBook();
+        addressBook.addRecruit(ALICE);
+        retryingSaver.requestSave(addressBook);
+        runQueuedTasks();
+        retries.poll().run();
+        assertEquals(0, queuedTasks.size());
+        assertEquals(List.of(addressBook), storage.savedAddressBooks);
+    }
+
+    @Test
+    public void close_backgroundThread_savesAllRequests() throws Exception {
+        WriteBehindSaver threadedSaver = new WriteBehindSaver(storage);
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 5; i++) {
+            threadedSaver.requestSave(addressBook);
+        }
+        addressBook.addRecruit(ALICE);
+        threadedSaver.requestSave(addressBook);
+        threadedSaver.close();
+
+        assertEquals(addressBook, storage.savedAddressBooks.get(storage.savedAddressBooks.size() - 1));
+    }
+
+    private void runQueuedTasks() {
+        while (!queuedTasks.isEmpty()) {
+            queuedTasks.poll().run();
+        }
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records every address book it is asked to save.
+     */
+    private static class RecordingAddressBookStorage implements AddressBookStorage {
+        private final List<AddressBook> savedAddressBooks = new ArrayList<>();
+        private IOException failure;
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            synchronized (savedAddressBooks) {
+                savedAddressBooks.add(new AddressBook(addressBook));
+            }
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import seedu.address.model.recruit.Recruit;
+
+/**
+ * A utility class for the benchmarks, which are not run as part of the test suite. Each benchmark has a {@code main}
+ * method to run directly, optionally passing the number of recruits to benchmark with.
+ */
+public class BenchmarkUtil {
+
+    private static final String[] TAGS = {"friends", "colleagues", "family", "owesMoney", "neighbours"};
+
+    private static int sink;
+
+    /**
+     * Returns the number of recruits given as the first of {@code args}, or {@code defaultCount} if there is none.
+     */
+    public static int getRecruitCount(String[] args, int defaultCount) {
+        return args.length > 0 ? Integer.parseInt(args[0]) : defaultCount;
+    }
+
+    /**
+     * Returns {@code recruitCount} recruits with distinct names, phones, emails and addresses, and zero to five
+     * tags each.
+     */
+    public static List<Recruit> createRecruits(int recruitCount) {
+        List<Recruit> recruits = new ArrayList<>(recruitCount);
+        for (int i = 0; i < recruitCount; i++) {
+            recruits.add(new RecruitBuilder()
+                    .withName("Recruit Number " + i)
+                    .withPhone(String.valueOf(90000000 + i))
+                    .withEmail("recruit" + i + "@example.com")
+                    .withAddress(i + ", Clementi Ave " + (i % 10) + ", #0" + (i % 9) + "-" + i)
+                    .withTags(Arrays.copyOf(TAGS, i % (TAGS.length + 1)))
+                    .build());
+        }
+        return recruits;
+    }
+
+    /**
+     * Returns the mean time in milliseconds taken by {@code task} over {@code measuredRounds} runs, after
+     * {@code warmupRounds} runs to let the JIT compile it. The results of {@code task} are kept alive so that its
+     * work cannot be optimised away.
+     */
+    public static double timeMillis(int warmupRounds, int measuredRounds, Callable<?> task) throws Exception {
+        for (int i = 0; i < warmupRounds; i++) {
+            sink += task.call().hashCode();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < measuredRounds; i++) {
+            sink += task.call().hashCode();
+        }
+        return (System.nanoTime() - start) / 1e6 / measuredRounds;
+    }
+
+}
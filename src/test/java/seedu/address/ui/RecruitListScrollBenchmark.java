@@ -0,0 +1,101 @@
+package seedu.address.ui;
+
+import static seedu.address.testutil.BenchmarkUtil.createRecruits;
+import static seedu.address.testutil.BenchmarkUtil.getRecruitCount;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import seedu.address.model.recruit.Recruit;
+
+/**
+ * Measures the time taken to lay out each frame while scrolling through a long recruit list, with cells that rebind
+ * their {@link RecruitCard} and with cells that create a new card on every update.
+ * Without a display, run it with Monocle's headless platform, i.e.
+ * {@code -Dglass.platform=Monocle -Dmonocle.platform=Headless -Dprism.order=sw}.
+ */
+public class RecruitListScrollBenchmark {
+
+    private static final int DEFAULT_RECRUIT_COUNT = 100_000;
+    private static final int WARMUP_FRAMES = 500;
+    private static final int MEASURED_FRAMES = 2_000;
+    // Far enough to replace every visible cell on each frame, as when dragging the scroll bar.
+    private static final int ROWS_PER_FRAME = 37;
+
+    public static void main(String[] args) throws InterruptedException {
+        int recruitCount = getRecruitCount(args, DEFAULT_RECRUIT_COUNT);
+        ObservableList<Recruit> recruits = FXCollections.observableList(createRecruits(recruitCount));
+
+        CountDownLatch finished = new CountDownLatch(1);
+        Platform.startup(() -> {
+            try {
+                System.out.printf("%d recruits, scrolling %d rows per frame%n", recruitCount, ROWS_PER_FRAME);
+                timeScrolling("recycled cards:", createPanel(recruits, false));
+                timeScrolling("new cards:     ", createPanel(recruits, true));
+            } finally {
+                finished.countDown();
+            }
+        });
+        finished.await();
+        Platform.exit();
+    }
+
+    /**
+     * Returns the list view of a recruit list panel shown in a scene, with cells that create a new card on every
+     * update if {@code isCreatingCards}.
+     */
+    private static ListView<Recruit> createPanel(ObservableList<Recruit> recruits, boolean isCreatingCards) {
+        RecruitListPanel panel = new RecruitListPanel(recruits);
+        ListView<Recruit> listView = panel.getRecruitListView();
+        if (isCreatingCards) {
+            listView.setCellFactory(unused -> new ListCell<>() {
+                @Override
+                protected void updateItem(Recruit recruit, boolean empty) {
+                    super.updateItem(recruit, empty);
+                    setGraphic(empty || recruit == null ? null : new RecruitCard(recruit, getIndex() + 1).getRoot());
+                }
+            });
+        }
+        new Scene(panel.getRoot(), 740, 600);
+        return listView;
+    }
+
+    /**
+     * Prints the mean, median, 95th percentile and longest times taken to lay out a frame after scrolling.
+     */
+    private static void timeScrolling(String label, ListView<Recruit> listView) {
+        int rowCount = listView.getItems().size();
+        int row = 0;
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            row = (row + ROWS_PER_FRAME) % rowCount;
+            layOutFrame(listView, row);
+        }
+
+        long[] frameNanos = new long[MEASURED_FRAMES];
+        for (int i = 0; i < MEASURED_FRAMES; i++) {
+            row = (row + ROWS_PER_FRAME) % rowCount;
+            long start = System.nanoTime();
+            layOutFrame(listView, row);
+            frameNanos[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(frameNanos);
+        double mean = Arrays.stream(frameNanos).average().orElse(0) / 1e6;
+        System.out.printf("%s mean %.3f ms, p50 %.3f ms, p95 %.3f ms, max %.3f ms per frame%n", label, mean,
+                frameNanos[MEASURED_FRAMES / 2] / 1e6, frameNanos[MEASURED_FRAMES * 95 / 100] / 1e6,
+                frameNanos[MEASURED_FRAMES - 1] / 1e6);
+    }
+
+    private static void layOutFrame(ListView<Recruit> listView, int row) {
+        listView.scrollTo(row);
+        listView.applyCss();
+        listView.layout();
+    }
+
+}